@@ -0,0 +1,83 @@
+package br.dev.gawbsouza.pushswap.benchmark;
+
+import java.util.List;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Cost of the order checks and of the state accessors, including the 
+ * copying ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorsBenchmark {
+
+	@Param({"100", "500", "10000", "1000000"})
+	public int size;
+
+	private PushSwap solved;
+	private PushSwap split;
+	private Stack<Integer> solvedStack;
+
+	@Setup
+	public void setUp() {
+
+		var numbers = new int[size];
+		for (int i = 0; i < size; i++) {
+			numbers[i] = i;
+		}
+
+		solved = PushSwap.normalized(numbers);
+		solvedStack = solved.getStackA();
+		split = Inputs.split(size);
+	}
+
+	@Benchmark
+	public boolean isSolved() {
+		return solved.isSolved();
+	}
+
+	@Benchmark
+	public boolean isStackOrdered() {
+		return PushSwap.isStackOrdered(solvedStack);
+	}
+
+	@Benchmark
+	public Stack<Integer> getStackA() {
+		return split.getStackA();
+	}
+
+	@Benchmark
+	public List<Movements> getMovements() {
+		return split.getMovements();
+	}
+
+	@Benchmark
+	public int topA() {
+		return split.topA();
+	}
+
+	@Benchmark
+	public int sumA() {
+		return split.streamA().sum();
+	}
+}
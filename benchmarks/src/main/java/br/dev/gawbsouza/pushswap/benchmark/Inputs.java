@@ -0,0 +1,58 @@
+package br.dev.gawbsouza.pushswap.benchmark;
+
+import java.util.Random;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Seeded inputs shared by the benchmarks.
+ */
+final class Inputs {
+
+	static final long SEED = 42;
+
+	private Inputs() {
+	}
+
+	/**
+	 * Gets distinct numbers in a seeded random order.
+	 * @param size number of items
+	 * @param seed random seed
+	 * @return shuffled numbers
+	 */
+	static int[] shuffled(int size, long seed) {
+
+		var random = new Random(seed);
+		var numbers = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			numbers[i] = i * 2 - size;
+		}
+
+		for (int i = size - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = numbers[i];
+			numbers[i] = numbers[j];
+			numbers[j] = swap;
+		}
+
+		return numbers;
+	}
+
+	/**
+	 * Gets a game with half of the items pushed to stack B, so movements on
+	 * both stacks have work to do.
+	 * @param size number of items
+	 * @return game split between both stacks
+	 */
+	static PushSwap split(int size) {
+
+		var game = PushSwap.normalized(shuffled(size, SEED));
+
+		for (int i = 0; i < size / 2; i++) {
+			game.pb();
+		}
+
+		return game;
+	}
+}
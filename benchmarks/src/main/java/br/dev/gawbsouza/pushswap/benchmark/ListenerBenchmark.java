@@ -0,0 +1,52 @@
+package br.dev.gawbsouza.pushswap.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.dev.gawbsouza.pushswap.core.MovementMetrics;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Overhead of the movement listener hooks: {@code none} runs with the 
+ * default no-op listener and should match {@code MovementsBenchmark}, 
+ * {@code metrics} runs with a {@code MovementMetrics} installed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerBenchmark {
+
+	@Param({"none", "metrics"})
+	public String listener;
+
+	private PushSwap game;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		game = Inputs.split(500);
+		if (listener.equals("metrics")) game.setMovementListener(new MovementMetrics());
+	}
+
+	@Benchmark
+	public void rotateAndPush() {
+		game.ra();
+		game.pb();
+		game.rrb();
+		game.pa();
+	}
+}
@@ -0,0 +1,95 @@
+package br.dev.gawbsouza.pushswap.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Cost of each {@code PushSwap} movement at several stack sizes.<br><br>
+ * 
+ * The game is rebuilt every iteration, so the movement log never grows 
+ * beyond one iteration. PA and PB are measured as a PB+PA pair to keep the
+ * stack sizes stable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovementsBenchmark {
+
+	@Param({"100", "500", "10000", "1000000"})
+	public int size;
+
+	private PushSwap game;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		game = Inputs.split(size);
+	}
+
+	@Benchmark
+	public void sa() {
+		game.sa();
+	}
+
+	@Benchmark
+	public void sb() {
+		game.sb();
+	}
+
+	@Benchmark
+	public void ss() {
+		game.ss();
+	}
+
+	@Benchmark
+	public void pbThenPa() {
+		game.pb();
+		game.pa();
+	}
+
+	@Benchmark
+	public void ra() {
+		game.ra();
+	}
+
+	@Benchmark
+	public void rb() {
+		game.rb();
+	}
+
+	@Benchmark
+	public void rr() {
+		game.rr();
+	}
+
+	@Benchmark
+	public void rra() {
+		game.rra();
+	}
+
+	@Benchmark
+	public void rrb() {
+		game.rrb();
+	}
+
+	@Benchmark
+	public void rrr() {
+		game.rrr();
+	}
+}
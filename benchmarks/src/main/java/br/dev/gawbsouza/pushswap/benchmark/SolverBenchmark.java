@@ -0,0 +1,53 @@
+package br.dev.gawbsouza.pushswap.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.solver.GreedySolver;
+import br.dev.gawbsouza.pushswap.solver.RadixSolver;
+import br.dev.gawbsouza.pushswap.solver.Solver;
+
+/**
+ * End-to-end solver runs over seeded random inputs. Each invocation builds 
+ * a fresh rank normalized game, so normalization is part of the measure.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+
+	@Param({"radix", "greedy"})
+	public String solverName;
+
+	@Param({"100", "500", "10000"})
+	public int size;
+
+	private Solver solver;
+	private int[] numbers;
+
+	@Setup
+	public void setUp() {
+		solver = solverName.equals("greedy") ? new GreedySolver() : new RadixSolver();
+		numbers = Inputs.shuffled(size, Inputs.SEED);
+	}
+
+	@Benchmark
+	public int solve() {
+		return solver.solve(PushSwap.normalized(numbers)).getMoves();
+	}
+}
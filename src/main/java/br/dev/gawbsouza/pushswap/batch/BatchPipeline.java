@@ -0,0 +1,313 @@
+package br.dev.gawbsouza.pushswap.batch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.optimizer.PeepholeOptimizer;
+import br.dev.gawbsouza.pushswap.solver.GreedySolver;
+import br.dev.gawbsouza.pushswap.solver.Solver;
+
+/**
+ * Staged pipeline that solves a batch of independent instances.<br><br>
+ * 
+ * Each input line is an instance, with its numbers separated by spaces. 
+ * The calling thread reads the lines and hands them to a bounded queue. A
+ * pool of workers takes them and runs the CPU stages of each instance one 
+ * after the other: parse, normalize, solve, optimize with a 
+ * {@code PeepholeOptimizer} and format. A single writer thread takes the 
+ * formatted results from a second bounded queue, puts them back in input 
+ * order and writes them, one line per instance with the movements 
+ * separated by spaces, or {@code Error} when the instance is invalid.
+ * <br><br>
+ * 
+ * Every instance holds a permit from the moment it is read until it is 
+ * written, so the queues and the reordering buffer together never hold 
+ * more than {@code capacity} instances. When the writer or the workers fall
+ * behind, the reader blocks: memory stays bounded whatever the batch size,
+ * while the workers keep every core busy.<br><br>
+ * 
+ * Usage: {@code BatchPipeline [-w workers] <input> <output>}, where 
+ * {@code -} stands for standard input or output.
+ */
+public final class BatchPipeline {
+
+	private static final String ERROR = "Error";
+	private static final Instance END = new Instance(-1, null);
+
+	private final Solver solver;
+	private final int workers;
+	private final int capacity;
+
+	/**
+	 * BatchPipeline constructor with one worker per core and room for 64 
+	 * instances per worker.
+	 * @param solver shared by every worker, so it must be thread-safe
+	 */
+	public BatchPipeline(Solver solver) {
+		this(solver, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * BatchPipeline constructor with room for 64 instances per worker.
+	 * @param solver shared by every worker, so it must be thread-safe
+	 * @param workers number of worker threads
+	 */
+	public BatchPipeline(Solver solver, int workers) {
+		this(solver, workers, workers * 64);
+	}
+
+	/**
+	 * BatchPipeline constructor.
+	 * @param solver shared by every worker, so it must be thread-safe
+	 * @param workers number of worker threads
+	 * @param capacity maximum number of instances between the reader and the
+	 * writer
+	 * @throws IllegalArgumentException if workers or capacity is not 
+	 * positive
+	 */
+	public BatchPipeline(Solver solver, int workers, int capacity) {
+
+		if (workers < 1)
+			throw new IllegalArgumentException("Worker count must be positive: " + workers);
+		if (capacity < 1)
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+
+		this.solver = solver;
+		this.workers = workers;
+		this.capacity = capacity;
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+
+		int first = 0;
+		int workers = Runtime.getRuntime().availableProcessors();
+
+		if (args.length == 4 && args[0].equals("-w")) {
+			workers = Integer.parseInt(args[1]);
+			first = 2;
+		}
+
+		if (args.length - first != 2) {
+			System.err.println("Usage: BatchPipeline [-w workers] <input> <output>");
+			System.exit(1);
+		}
+
+		try (Reader in = (args[first].equals("-") 
+					? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+					: Files.newBufferedReader(Paths.get(args[first]), StandardCharsets.UTF_8));
+				Writer out = (args[first + 1].equals("-") 
+					? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+					: Files.newBufferedWriter(Paths.get(args[first + 1]), StandardCharsets.UTF_8))) {
+			new BatchPipeline(new GreedySolver(), workers).run(in, out);
+		}
+	}
+
+	/**
+	 * Solves every instance of the input and writes the results in the same
+	 * order.
+	 * @param in one instance per line
+	 * @param out receives one result per line, flushed at the end
+	 * @return number of instances
+	 * @throws IOException if the input can not be read or the output can 
+	 * not be written
+	 * @throws InterruptedException if the calling thread is interrupted
+	 * @throws IllegalStateException if the solver failed on a valid 
+	 * instance, even with an {@code Error}, which is still written as 
+	 * {@code Error}
+	 */
+	public long run(Reader in, Writer out) throws IOException, InterruptedException {
+
+		var permits = new Semaphore(capacity);
+		BlockingQueue<Instance> pending = new ArrayBlockingQueue<>(capacity);
+		BlockingQueue<Instance> solved = new ArrayBlockingQueue<>(capacity);
+
+		var writer = new ResultWriter(out, solved, permits);
+		var writerThread = new Thread(writer, "batch-writer");
+		writerThread.start();
+
+		var solverFailure = new AtomicReference<Throwable>();
+		ExecutorService pool = Executors.newFixedThreadPool(workers);
+		for (int i = 0; i < workers; i++) {
+			pool.execute(() -> work(pending, solved, solverFailure));
+		}
+
+		long count = 0;
+
+		try {
+			var reader = (in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in));
+			String line;
+			while ((line = reader.readLine()) != null) {
+				permits.acquire();
+				pending.put(new Instance(count++, line));
+			}
+		} finally {
+			for (int i = 0; i < workers; i++) {
+				pending.put(END);
+			}
+			pool.shutdown();
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			solved.put(END);
+			writerThread.join();
+		}
+
+		if (writer.failure != null) throw writer.failure;
+		if (solverFailure.get() != null)
+			throw new IllegalStateException("Solver failed on a valid instance", solverFailure.get());
+
+		return count;
+	}
+
+	/**
+	 * Worker loop, until it takes the end marker. A solver failure, errors 
+	 * included, is kept and the instance written as an error, so the batch 
+	 * never stalls.
+	 */
+	private void work(BlockingQueue<Instance> pending, BlockingQueue<Instance> solved, 
+			AtomicReference<Throwable> solverFailure) {
+		try {
+			for (var instance = pending.take(); instance != END; instance = pending.take()) {
+				try {
+					instance.text = solve(instance.text);
+				} catch (Throwable e) {
+					solverFailure.compareAndSet(null, e);
+					instance.text = ERROR;
+				}
+				solved.put(instance);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Runs the CPU stages of an instance.
+	 * @return formatted result
+	 */
+	String solve(String line) {
+
+		int[] numbers;
+		PushSwap game;
+
+		try {
+			numbers = parse(line);
+			game = PushSwap.normalized(numbers);
+		} catch (IllegalArgumentException e) {
+			return ERROR;
+		}
+
+		solver.solve(game);
+
+		var result = new StringBuilder(game.getMovements().size() * 3);
+		var optimizer = new PeepholeOptimizer(numbers.length, 0, movement -> {
+			if (result.length() > 0) result.append(' ');
+			result.append(movement);
+		});
+
+		game.getMovements().forEach(optimizer);
+		optimizer.finish();
+
+		return result.toString();
+	}
+
+	/**
+	 * Parses the numbers of a line.
+	 * @throws NumberFormatException if a number is not a valid int
+	 */
+	private static int[] parse(String line) {
+
+		line = line.trim();
+		if (line.isEmpty()) return new int[0];
+
+		var fields = line.split("\\s+");
+		var numbers = new int[fields.length];
+
+		for (int i = 0; i < fields.length; i++) {
+			numbers[i] = Integer.parseInt(fields[i]);
+		}
+
+		return numbers;
+	}
+
+	/**
+	 * Input line of an instance, replaced by its formatted result once 
+	 * solved.
+	 */
+	private static final class Instance {
+
+		private final long sequence;
+		private String text;
+
+		private Instance(long sequence, String text) {
+			this.sequence = sequence;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Writes the results in input order, holding the ones that arrive early.
+	 * After a write failure the results are still drained, so that the 
+	 * reader and the workers never block, and the failure is reported at the
+	 * end.
+	 */
+	private static final class ResultWriter implements Runnable {
+
+		private final Writer out;
+		private final BlockingQueue<Instance> solved;
+		private final Semaphore permits;
+		private final HashMap<Long, String> early = new HashMap<>();
+		private long next;
+		private IOException failure;
+
+		private ResultWriter(Writer out, BlockingQueue<Instance> solved, Semaphore permits) {
+			this.out = (out instanceof BufferedWriter ? out : new BufferedWriter(out));
+			this.solved = solved;
+			this.permits = permits;
+		}
+
+		@Override
+		public void run() {
+			try {
+				for (var instance = solved.take(); instance != END; instance = solved.take()) {
+					early.put(instance.sequence, instance.text);
+					for (var text = early.remove(next); text != null; text = early.remove(next)) {
+						write(text);
+						next++;
+						permits.release();
+					}
+				}
+				if (failure == null) out.flush();
+			} catch (IOException e) {
+				failure = e;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void write(String text) {
+			if (failure != null) return;
+			try {
+				out.write(text);
+				out.write('\n');
+			} catch (IOException e) {
+				failure = e;
+			}
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package br.dev.gawbsouza.pushswap.checker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Streaming checker of Push Swap solutions, like the 42 {@code checker}.
+ * <br><br>
+ * 
+ * Movements are read one per line through a reusable byte buffer and 
+ * matched on the raw bytes, so no {@code String} is created per movement. 
+ * They are executed in batches with the movement log turned off, which 
+ * keeps the extra memory constant no matter how long the solution is.
+ * <br><br>
+ * 
+ * Usage: {@code Checker [-f movesFile] numbers...}, reading the movements 
+ * from standard input when no file is given. Prints {@code OK} or 
+ * {@code KO} on standard output, or {@code Error} on standard error for 
+ * invalid numbers or movements.
+ */
+public final class Checker {
+
+	/**
+	 * Result of a check.
+	 */
+	public enum Verdict {
+		OK, KO, ERROR
+	}
+
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+	private static final int PROGRAM_SIZE = 1 << 13;
+
+	private final ByteBuffer buffer;
+	private final byte[] program = new byte[PROGRAM_SIZE];
+
+	/**
+	 * Checker constructor with a 64 KiB direct read buffer.
+	 */
+	public Checker() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+
+	Checker(int bufferSize) {
+		buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		int first = 0;
+		String movesFile = null;
+
+		if (args.length >= 2 && args[0].equals("-f")) {
+			movesFile = args[1];
+			first = 2;
+		}
+
+		PushSwap game;
+
+		try {
+			game = PushSwap.normalized(parseNumbers(args, first));
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error");
+			System.exit(1);
+			return;
+		}
+
+		Verdict verdict;
+
+		try (ReadableByteChannel moves = movesFile == null 
+				? Channels.newChannel(System.in) 
+				: FileChannel.open(Paths.get(movesFile), StandardOpenOption.READ)) {
+			verdict = new Checker().check(game, moves);
+		}
+
+		if (verdict == Verdict.ERROR) {
+			System.err.println("Error");
+			System.exit(1);
+		}
+
+		System.out.println(verdict);
+	}
+
+	/**
+	 * Reads every movement from a channel, executes them and checks whether
+	 * the game ends solved.
+	 * @param game starting game
+	 * @param moves channel with one movement per line
+	 * @return {@code OK} if solved, {@code KO} if not, {@code ERROR} if a 
+	 * line is not a valid movement
+	 * @throws IOException if the channel can not be read
+	 */
+	public Verdict check(PushSwap game, ReadableByteChannel moves) throws IOException {
+
+		int token = 0;
+		int tokenLength = 0;
+		int programLength = 0;
+
+		buffer.clear();
+
+		while (moves.read(buffer) != -1) {
+
+			buffer.flip();
+
+			while (buffer.hasRemaining()) {
+
+				byte current = buffer.get();
+
+				if (current != '\n') {
+					// any other byte, NUL included, would pack into a valid token
+					if (current < 'a' || current > 'z') return Verdict.ERROR;
+					if (++tokenLength > Movements.MAX_LENGTH) return Verdict.ERROR;
+					token = (token << 8) | current;
+					continue;
+				}
+
+				int code = Movements.codeOf(token);
+				if (code == Movements.INVALID) return Verdict.ERROR;
+
+				program[programLength++] = (byte) code;
+				token = 0;
+				tokenLength = 0;
+
+				if (programLength == PROGRAM_SIZE) {
+					game.apply(program, 0, programLength, false);
+					programLength = 0;
+				}
+			}
+
+			buffer.clear();
+		}
+
+		if (tokenLength > 0) {
+			int code = Movements.codeOf(token);
+			if (code == Movements.INVALID) return Verdict.ERROR;
+			program[programLength++] = (byte) code;
+		}
+
+		game.apply(program, 0, programLength, false);
+
+		return game.isSolved() ? Verdict.OK : Verdict.KO;
+	}
+
+	/**
+	 * Parses the numbers of the arguments, which may also hold several 
+	 * numbers separated by spaces.
+	 * @throws NumberFormatException if a number is not a valid int
+	 */
+	static int[] parseNumbers(String[] args, int first) {
+
+		int count = 0;
+		var numbers = new int[Math.max(args.length - first, 0)];
+
+		for (int i = first; i < args.length; i++) {
+			for (String number : args[i].trim().split("\\s+")) {
+				if (number.isEmpty()) continue;
+				if (count == numbers.length) numbers = Arrays.copyOf(numbers, count * 2 + 1);
+				numbers[count++] = Integer.parseInt(number);
+			}
+		}
+
+		return Arrays.copyOf(numbers, count);
+	}
+}
@@ -0,0 +1,24 @@
+package br.dev.gawbsouza.pushswap.core;
+
+/**
+ * Owner of the chunks of an {@code IntRing} or a {@code MovementLog}, shared
+ * copy-on-write with their forks.<br><br>
+ * 
+ * A storage only writes in place to the chunks of its current owner, while
+ * that owner has not been forked. Marking the owner as forked is the only 
+ * write a fork makes, so the source fields are never touched and concurrent
+ * forks of the same source are safe. The next write of the source switches 
+ * it to a new owner, so every chunk shared with a fork is copied first.
+ */
+final class ChunkOwner {
+
+	private volatile boolean forked;
+
+	void markForked() {
+		forked = true;
+	}
+
+	boolean isForked() {
+		return forked;
+	}
+}
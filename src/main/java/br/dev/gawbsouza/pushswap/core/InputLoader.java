@@ -0,0 +1,214 @@
+package br.dev.gawbsouza.pushswap.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Bulk loader of {@code PushSwap} inputs with millions of numbers.<br><br>
+ * 
+ * Files are memory-mapped and other sources, such as standard input, are 
+ * read through a direct buffer. Signed 32-bit numbers separated by 
+ * whitespace are parsed straight from the bytes, with no {@code String} or
+ * {@code Integer} per number, and overflow is detected digit by digit. The
+ * numbers go into a growable {@code int[]}, which is normalized in place and
+ * then copied once, in a single scan, into the chunks of the stack storage.
+ * <br><br>
+ * 
+ * Duplicates are detected while parsing with an open-addressing set of 
+ * ints. For a normalized game the set is skipped: the numbers are sorted 
+ * anyway to compute the ranks, and duplicates are found by that same pass,
+ * which saves the memory of the set.
+ */
+public final class InputLoader {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final long MAX_MAPPING = 1L << 30;
+	private static final int INITIAL_CAPACITY = 1 << 10;
+
+	private final IntSet seen;
+
+	private int[] numbers = new int[INITIAL_CAPACITY];
+	private int count;
+
+	private long offset;
+	private boolean inNumber;
+	private boolean negative;
+	private boolean hasDigits;
+	private long value;
+
+	private InputLoader(boolean checkDuplicates) {
+		seen = (checkDuplicates ? new IntSet() : null);
+	}
+
+	/**
+	 * Loads the numbers of a file, memory-mapping it.
+	 * @param file with the numbers separated by whitespace
+	 * @param normalize true to create a rank normalized PushSwap
+	 * @return PushSwap with the numbers on stack A, the first one on top
+	 * @throws IOException if the file can not be read
+	 * @throws NumberFormatException if there is an invalid or out of range
+	 * number
+	 * @throws IllegalArgumentException if there are duplicated numbers
+	 */
+	public static PushSwap load(Path file, boolean normalize) throws IOException {
+
+		var loader = new InputLoader(!normalize);
+
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			for (long position = 0; position < size; position += MAX_MAPPING) {
+				long length = Math.min(MAX_MAPPING, size - position);
+				loader.parse(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+			}
+		}
+
+		return loader.finish(normalize);
+	}
+
+	/**
+	 * Loads the numbers of a channel, such as standard input, through a 
+	 * direct buffer.
+	 * @param channel with the numbers separated by whitespace
+	 * @param normalize true to create a rank normalized PushSwap
+	 * @return PushSwap with the numbers on stack A, the first one on top
+	 * @throws IOException if the channel can not be read
+	 * @throws NumberFormatException if there is an invalid or out of range
+	 * number
+	 * @throws IllegalArgumentException if there are duplicated numbers
+	 */
+	public static PushSwap load(ReadableByteChannel channel, boolean normalize) throws IOException {
+
+		var loader = new InputLoader(!normalize);
+		var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+		while (channel.read(buffer) != -1) {
+			buffer.flip();
+			loader.parse(buffer);
+			buffer.clear();
+		}
+
+		return loader.finish(normalize);
+	}
+
+	/**
+	 * Parses the remaining bytes of a buffer. A number may continue in the 
+	 * next buffer.
+	 */
+	private void parse(ByteBuffer buffer) {
+
+		for (int i = buffer.position(), limit = buffer.limit(); i < limit; i++) {
+
+			byte c = buffer.get(i);
+
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				if (value > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE))
+					throw new NumberFormatException("Number out of int range at byte " + (offset + i));
+				inNumber = true;
+				hasDigits = true;
+			} else if (c == ' ' || c == '\n' || c == '\t' || c == '\r') {
+				if (inNumber) endNumber(offset + i);
+			} else if ((c == '-' || c == '+') && !inNumber) {
+				inNumber = true;
+				negative = (c == '-');
+			} else {
+				throw new NumberFormatException("Invalid character '" + (char) c 
+						+ "' at byte " + (offset + i));
+			}
+		}
+
+		offset += buffer.limit() - buffer.position();
+		buffer.position(buffer.limit());
+	}
+
+	private void endNumber(long position) {
+
+		if (!hasDigits)
+			throw new NumberFormatException("Sign without digits at byte " + position);
+
+		int number = (int) (negative ? -value : value);
+
+		if (seen != null && !seen.add(number))
+			throw new IllegalArgumentException("Duplicated number: " + number);
+
+		if (count == numbers.length) numbers = Arrays.copyOf(numbers, count << 1);
+		numbers[count++] = number;
+
+		inNumber = false;
+		negative = false;
+		hasDigits = false;
+		value = 0;
+	}
+
+	private PushSwap finish(boolean normalize) {
+		if (inNumber) endNumber(offset);
+		return PushSwap.adopt(numbers, count, normalize);
+	}
+
+	/**
+	 * Open-addressing set of ints with linear probing, kept at most half 
+	 * full. {@code Integer.MIN_VALUE} marks empty slots, so it is tracked 
+	 * apart.
+	 */
+	private static final class IntSet {
+
+		private static final int EMPTY = Integer.MIN_VALUE;
+
+		private int[] keys = newTable(INITIAL_CAPACITY);
+		private int size;
+		private boolean containsEmpty;
+
+		/**
+		 * Adds a key to the set.
+		 * @return false if the key was already in the set
+		 */
+		boolean add(int key) {
+
+			if (key == EMPTY) {
+				if (containsEmpty) return false;
+				return (containsEmpty = true);
+			}
+
+			int mask = keys.length - 1;
+			int slot = slotOf(key, mask);
+
+			for (; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+				if (keys[slot] == key) return false;
+			}
+
+			keys[slot] = key;
+			if (++size << 1 > keys.length) grow();
+			return true;
+		}
+
+		private void grow() {
+
+			var old = keys;
+			keys = newTable(old.length << 1);
+			int mask = keys.length - 1;
+
+			for (int key : old) {
+				if (key == EMPTY) continue;
+				int slot = slotOf(key, mask);
+				while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+				keys[slot] = key;
+			}
+		}
+
+		private static int slotOf(int key, int mask) {
+			int hash = key * 0x9E3779B9;
+			return (hash ^ (hash >>> 16)) & mask;
+		}
+
+		private static int[] newTable(int capacity) {
+			var table = new int[capacity];
+			Arrays.fill(table, EMPTY);
+			return table;
+		}
+	}
+}
@@ -0,0 +1,364 @@
+package br.dev.gawbsouza.pushswap.core;
+
+/**
+ * Primitive circular deque used as the backing storage of the
+ * {@code PushSwap} stacks.<br><br>
+ *
+ * The top of the stack is stored at {@code head} and the remaining items
+ * follow it towards the bottom, wrapping around the end of the storage. Since
+ * the capacity is always a power of two, the physical index of any item is a
+ * single mask operation away, so pushes, pops, swaps and rotations are all
+ * O(1) and never allocate.<br><br>
+ *
+ * The storage is split in fixed-size chunks that are shared copy-on-write
+ * between forked rings: {@code fork} is O(1) and only marks the chunk owner 
+ * as forked, and the first write to a shared chunk copies only that chunk 
+ * (and, once, the chunk table).<br><br>
+ *
+ * The ring also keeps the number of adjacent pairs that break the expected
+ * order of the stack (ascending or descending from the top). Every operation
+ * only changes the pairs around the items it touches, so the counter is
+ * updated locally and the order check is O(1).<br><br>
+ *
+ * Finally, it keeps a 64-bit polynomial hash of the items from the top,
+ * {@code sum(mix(item at depth i) * P^i)} modulo 2^64. {@code P} is odd, so 
+ * it has a multiplicative inverse and a pop can shift the hash back. Along 
+ * with {@code P^size} (the rotation offset of the bottom item), this lets 
+ * every operation, rotations included, update the hash in O(1).
+ */
+final class IntRing {
+
+	private static final int MIN_CAPACITY = 2;
+	private static final int MAX_CHUNK_SHIFT = 10;
+
+	private static final long P = 0x9E3779B97F4A7C15L;
+	private static final long P_INVERSE = inverseOf(P);
+
+	private final boolean ascending;
+
+	private int[][] chunks;
+	private ChunkOwner[] owners;
+	private ChunkOwner token;
+	private boolean tableShared;
+	private int chunkShift;
+	private int chunkMask;
+
+	private int mask;
+	private int head;
+	private int size;
+	private int breaks;
+	private long hash;
+	private long powSize = 1;
+
+	/**
+	 * IntRing constructor for a stack expected in ascending order.
+	 * @param expectedItems maximum number of items the ring is expected to
+	 * hold without growing
+	 */
+	IntRing(int expectedItems) {
+		this(expectedItems, true);
+	}
+
+	/**
+	 * IntRing constructor.
+	 * @param expectedItems maximum number of items the ring is expected to
+	 * hold without growing
+	 * @param ascending true if the stack is expected in ascending order from
+	 * the top, false if it is expected in descending order
+	 */
+	IntRing(int expectedItems, boolean ascending) {
+		this.ascending = ascending;
+		allocate(capacityFor(expectedItems));
+	}
+
+	/**
+	 * Creates a ring holding the given items, writing them straight into the
+	 * storage and computing the order counter and the hash in a single scan.
+	 * @param topToBottom items, from the top of the stack
+	 * @param count number of items to be taken from the array
+	 * @param ascending true if the stack is expected in ascending order from
+	 * the top, false if it is expected in descending order
+	 * @return ring with the items
+	 */
+	static IntRing of(int[] topToBottom, int count, boolean ascending) {
+
+		var ring = new IntRing(count, ascending);
+
+		for (int depth = count - 1; depth >= 0; depth--) {
+			int value = topToBottom[depth];
+			ring.chunks[depth >>> ring.chunkShift][depth & ring.chunkMask] = value;
+			if (depth < count - 1) ring.breaks += ring.breakOf(value, topToBottom[depth + 1]);
+			ring.hash = ring.hash * P + mix(value);
+			ring.powSize *= P;
+		}
+
+		ring.size = count;
+		return ring;
+	}
+
+	private IntRing(IntRing source) {
+		ascending = source.ascending;
+		chunks = source.chunks;
+		owners = source.owners;
+		token = new ChunkOwner();
+		tableShared = true;
+		chunkShift = source.chunkShift;
+		chunkMask = source.chunkMask;
+		mask = source.mask;
+		head = source.head;
+		size = source.size;
+		breaks = source.breaks;
+		hash = source.hash;
+		powSize = source.powSize;
+	}
+
+	/**
+	 * Creates an independent copy of this ring in O(1). Both rings share
+	 * their chunks until one of them writes to a chunk. The fields of this
+	 * ring are left untouched, so it can be forked concurrently.
+	 * @return the copy
+	 */
+	IntRing fork() {
+		token.markForked();
+		return new IntRing(this);
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the number of adjacent pairs out of the expected order.
+	 * @return zero if the stack is ordered
+	 */
+	int breaks() {
+		return breaks;
+	}
+
+	/**
+	 * Counts the adjacent pairs out of the expected order with a full scan.
+	 * @return number of adjacent pairs out of the expected order
+	 */
+	int countBreaks() {
+		int count = 0;
+		for (int depth = 0; depth < size - 1; depth++) {
+			count += breakOf(get(depth), get(depth + 1));
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the polynomial hash of the items, from the top to the bottom.
+	 * @return hash of the items
+	 */
+	long hash() {
+		return hash;
+	}
+
+	/**
+	 * Computes the polynomial hash of the items with a full scan.
+	 * @return hash of the items
+	 */
+	long computeHash() {
+		long value = 0;
+		for (int depth = size - 1; depth >= 0; depth--) {
+			value = value * P + mix(get(depth));
+		}
+		return value;
+	}
+
+	/**
+	 * Compares the items of two rings, from the top to the bottom.
+	 * @param other ring to be compared
+	 * @return true if both rings hold the same items in the same order
+	 */
+	boolean sameItems(IntRing other) {
+
+		if (size != other.size || hash != other.hash) return false;
+
+		for (int depth = 0; depth < size; depth++) {
+			if (get(depth) != other.get(depth)) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Gets the item at a given depth, where zero is the top of the stack.
+	 * @param depth distance from the top of the stack
+	 * @return item at the given depth
+	 */
+	int get(int depth) {
+		return read((head + depth) & mask);
+	}
+
+	void push(int value) {
+		if (size == mask + 1) grow();
+		if (size > 0) breaks += breakOf(value, read(head));
+		head = (head - 1) & mask;
+		write(head, value);
+		hash = hash * P + mix(value);
+		powSize *= P;
+		size++;
+	}
+
+	int pop() {
+		int value = read(head);
+		if (size > 1) breaks -= breakOf(value, read((head + 1) & mask));
+		head = (head + 1) & mask;
+		hash = (hash - mix(value)) * P_INVERSE;
+		powSize *= P_INVERSE;
+		size--;
+		return value;
+	}
+
+	/**
+	 * Swaps the two top items. The ring must hold at least two items.
+	 */
+	void swapTop() {
+
+		int second = (head + 1) & mask;
+		int first = read(head);
+		int next = read(second);
+
+		breaks += breakOf(next, first) - breakOf(first, next);
+
+		if (size > 2) {
+			int third = read((head + 2) & mask);
+			breaks += breakOf(first, third) - breakOf(next, third);
+		}
+
+		write(head, next);
+		write(second, first);
+
+		long delta = mix(next) - mix(first);
+		hash += delta - delta * P;
+	}
+
+	/**
+	 * Moves the top item to the bottom of the stack. The ring must hold at
+	 * least two items.
+	 */
+	void rotateUp() {
+
+		int value = read(head);
+		int second = read((head + 1) & mask);
+		int last = read((head + size - 1) & mask);
+
+		breaks += breakOf(last, value) - breakOf(value, second);
+
+		head = (head + 1) & mask;
+		write((head + size - 1) & mask, value);
+
+		long mixed = mix(value);
+		hash = (hash - mixed) * P_INVERSE + mixed * powSize * P_INVERSE;
+	}
+
+	/**
+	 * Moves the bottom item to the top of the stack. The ring must hold at
+	 * least two items.
+	 */
+	void rotateDown() {
+
+		int value = read((head + size - 1) & mask);
+		int beforeLast = read((head + size - 2) & mask);
+		int first = read(head);
+
+		breaks += breakOf(value, first) - breakOf(beforeLast, value);
+
+		head = (head - 1) & mask;
+		write(head, value);
+
+		long mixed = mix(value);
+		hash = (hash - mixed * powSize * P_INVERSE) * P + mixed;
+	}
+
+	private int breakOf(int upper, int lower) {
+		return (ascending ? upper > lower : upper < lower) ? 1 : 0;
+	}
+
+	/**
+	 * Scrambles an item, so that close items spread over the whole hash.
+	 * @param value item to be scrambled
+	 * @return scrambled item
+	 */
+	static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+
+	/**
+	 * Computes the inverse of an odd number modulo 2^64 with Newton steps,
+	 * each one doubling the number of correct low bits.
+	 */
+	private static long inverseOf(long odd) {
+		long inverse = odd;
+		for (int i = 0; i < 5; i++) {
+			inverse *= 2 - odd * inverse;
+		}
+		return inverse;
+	}
+
+	private int read(int index) {
+		return chunks[index >>> chunkShift][index & chunkMask];
+	}
+
+	private void write(int index, int value) {
+
+		int chunk = index >>> chunkShift;
+
+		if (owners[chunk] != token || token.isForked()) {
+			if (token.isForked()) {
+				token = new ChunkOwner();
+				tableShared = true;
+			}
+			if (tableShared) {
+				chunks = chunks.clone();
+				owners = owners.clone();
+				tableShared = false;
+			}
+			chunks[chunk] = chunks[chunk].clone();
+			owners[chunk] = token;
+		}
+
+		chunks[chunk][index & chunkMask] = value;
+	}
+
+	private void allocate(int capacity) {
+
+		int capacityShift = Integer.numberOfTrailingZeros(capacity);
+		chunkShift = Math.min(capacityShift, MAX_CHUNK_SHIFT);
+		chunkMask = (1 << chunkShift) - 1;
+		mask = capacity - 1;
+
+		chunks = new int[capacity >>> chunkShift][1 << chunkShift];
+		owners = new ChunkOwner[chunks.length];
+		token = new ChunkOwner();
+		tableShared = false;
+
+		for (int chunk = 0; chunk < owners.length; chunk++) {
+			owners[chunk] = token;
+		}
+	}
+
+	private void grow() {
+
+		var items = new int[size];
+		for (int depth = 0; depth < size; depth++) {
+			items[depth] = get(depth);
+		}
+
+		allocate(Math.max(MIN_CAPACITY, (mask + 1) << 1));
+		head = 0;
+
+		for (int depth = 0; depth < size; depth++) {
+			chunks[depth >>> chunkShift][depth & chunkMask] = items[depth];
+		}
+	}
+
+	private static int capacityFor(int items) {
+		if (items <= MIN_CAPACITY) return MIN_CAPACITY;
+		return Integer.highestOneBit(items - 1) << 1;
+	}
+}
@@ -0,0 +1,46 @@
+package br.dev.gawbsouza.pushswap.core;
+
+/**
+ * Callback notified by {@code PushSwap} of every executed movement and of 
+ * the phases that solvers mark.<br><br>
+ * 
+ * Every method has an empty default, so a listener only implements what it
+ * needs. Games start with {@code NONE}, whose calls the JIT inlines to 
+ * nothing, so the hooks can stay in place in production at no cost.
+ */
+public interface MovementListener {
+
+	/**
+	 * Listener that ignores every notification.
+	 */
+	MovementListener NONE = new MovementListener() {
+	};
+
+	/**
+	 * Called after a movement is executed, by the movement methods and by 
+	 * {@code apply}, but not by {@code undo}.
+	 * @param game where the movement was executed
+	 * @param movement executed movement
+	 * @param changed false if the movement was a no-op, such as a swap or a
+	 * rotation on a stack with fewer than two items or a push from an empty
+	 * stack
+	 */
+	default void onMovement(PushSwap game, Movements movement, boolean changed) {
+	}
+
+	/**
+	 * Called when a solver starts a phase.
+	 * @param game being solved
+	 * @param phase name of the phase
+	 */
+	default void onPhaseStart(PushSwap game, String phase) {
+	}
+
+	/**
+	 * Called when a solver ends a phase.
+	 * @param game being solved
+	 * @param phase name of the phase
+	 */
+	default void onPhaseEnd(PushSwap game, String phase) {
+	}
+}
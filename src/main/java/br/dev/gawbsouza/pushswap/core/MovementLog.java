@@ -0,0 +1,322 @@
+package br.dev.gawbsouza.pushswap.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Compact append-only log of {@code Movements}.<br><br>
+ *
+ * Each movement is packed into 4 bits, sixteen movements per {@code long}.
+ * Words are grouped in fixed-size chunks, so growing the log only allocates a
+ * new chunk and never copies the movements already recorded. Chunks are 
+ * shared copy-on-write with forked logs, so a fork shares the whole recorded
+ * prefix and only copies a chunk when it writes to it.<br><br>
+ * 
+ * Besides the 11 movement ordinals, two spare codes mark PA and PB executed
+ * while the source stack was empty. They read back as PA and PB, but let 
+ * {@code PushSwap} undo them exactly.
+ */
+public final class MovementLog implements Iterable<Movements> {
+
+	private static final Movements[] MOVEMENTS = Movements.values();
+
+	static final int NO_OP_PA = MOVEMENTS.length;
+	static final int NO_OP_PB = NO_OP_PA + 1;
+
+	private static final Movements[] DECODED = decodingTable();
+
+	private static final int BITS_PER_MOVEMENT = 4;
+	private static final int MOVEMENTS_PER_WORD_SHIFT = 4;
+	private static final int MOVEMENTS_PER_WORD = 16;
+	private static final int MOVEMENTS_PER_WORD_MASK = MOVEMENTS_PER_WORD - 1;
+	private static final int MOVEMENT_MASK = 0xF;
+
+	private static final int WORDS_PER_CHUNK_SHIFT = 8;
+	private static final int WORDS_PER_CHUNK = 1 << WORDS_PER_CHUNK_SHIFT;
+	private static final int WORDS_PER_CHUNK_MASK = WORDS_PER_CHUNK - 1;
+	private static final int INITIAL_CHUNKS = 4;
+
+	private long[][] chunks;
+	private ChunkOwner[] owners;
+	private ChunkOwner token;
+	private boolean tableShared;
+	private int size;
+	private int removals;
+	private List<Movements> view;
+
+	/**
+	 * MovementLog constructor for an empty log.
+	 */
+	public MovementLog() {
+		chunks = new long[INITIAL_CHUNKS][];
+		owners = new ChunkOwner[INITIAL_CHUNKS];
+		token = new ChunkOwner();
+	}
+
+	private MovementLog(MovementLog source) {
+		chunks = source.chunks;
+		owners = source.owners;
+		token = new ChunkOwner();
+		tableShared = true;
+		size = source.size;
+	}
+
+	/**
+	 * Creates an independent copy of this log in O(1). Both logs share the
+	 * recorded chunks until one of them writes to a chunk. The fields of 
+	 * this log are left untouched, so it can be forked concurrently.
+	 * @return the copy
+	 */
+	MovementLog fork() {
+		token.markForked();
+		return new MovementLog(this);
+	}
+
+	/**
+	 * Gets the number of recorded movements.
+	 * @return number of recorded movements
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Appends a movement to the end of the log.
+	 * @param movement to be recorded
+	 */
+	public void add(Movements movement) {
+		addCode(movement.ordinal());
+	}
+
+	/**
+	 * Appends encoded movements to the end of the log, filling whole words 
+	 * at a time.
+	 * @param codes movements encoded by their {@code Movements} ordinal
+	 * @param from index of the first movement to be appended
+	 * @param to index after the last movement to be appended
+	 * @throws IllegalArgumentException if there is an invalid code, in 
+	 * which case nothing is appended
+	 */
+	public void addAll(byte[] codes, int from, int to) {
+
+		Objects.checkFromToIndex(from, to, codes.length);
+
+		for (int i = from; i < to; i++) {
+			if (codes[i] < 0 || codes[i] >= MOVEMENTS.length)
+				throw new IllegalArgumentException("Invalid movement code: " + codes[i]);
+		}
+
+		while (from < to) {
+
+			int offset = size & MOVEMENTS_PER_WORD_MASK;
+			int count = Math.min(to - from, MOVEMENTS_PER_WORD - offset);
+			long bits = 0;
+
+			for (int i = 0; i < count; i++) {
+				bits |= ((long) codes[from + i]) << ((offset + i) * BITS_PER_MOVEMENT);
+			}
+
+			orWord(bits, count);
+			from += count;
+		}
+	}
+
+	/**
+	 * Appends movements to the end of the log, filling whole words at a 
+	 * time.
+	 * @param movements to be appended
+	 * @param from index of the first movement to be appended
+	 * @param to index after the last movement to be appended
+	 */
+	public void addAll(Movements[] movements, int from, int to) {
+
+		Objects.checkFromToIndex(from, to, movements.length);
+
+		while (from < to) {
+
+			int offset = size & MOVEMENTS_PER_WORD_MASK;
+			int count = Math.min(to - from, MOVEMENTS_PER_WORD - offset);
+			long bits = 0;
+
+			for (int i = 0; i < count; i++) {
+				bits |= ((long) movements[from + i].ordinal()) << ((offset + i) * BITS_PER_MOVEMENT);
+			}
+
+			orWord(bits, count);
+			from += count;
+		}
+	}
+
+	/**
+	 * Gets the movement recorded at a given position.
+	 * @param index position of the movement, starting at zero
+	 * @return movement at the given position
+	 * @throws IndexOutOfBoundsException if index is out of the log bounds
+	 */
+	public Movements get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		return DECODED[codeAt(index)];
+	}
+
+	/**
+	 * Gets an iterator over the recorded movements, from the first to the
+	 * last one.<br>
+	 * The iterator reads the packed words directly, nothing is copied. It 
+	 * sees movements added while iterating, but fails fast once a movement 
+	 * is removed, as undoing does.
+	 * @return iterator over the recorded movements
+	 * @see ConcurrentModificationException
+	 */
+	@Override
+	public Iterator<Movements> iterator() {
+		return new Cursor();
+	}
+
+	/**
+	 * Gets a read-only {@code List} view of the log.<br>
+	 * The view is backed by the log, so it reflects every movement recorded
+	 * after it was obtained.
+	 * @return read-only list view of the log
+	 */
+	public List<Movements> asList() {
+		if (view == null) view = new ListView();
+		return view;
+	}
+
+	/**
+	 * Appends a raw code, which may be one of the no-op push codes.
+	 */
+	void addCode(int code) {
+		int shift = (size & MOVEMENTS_PER_WORD_MASK) * BITS_PER_MOVEMENT;
+		orWord(((long) code) << shift, 1);
+	}
+
+	/**
+	 * Removes the last recorded movement in O(1).
+	 * @return raw code of the removed movement
+	 */
+	int removeLast() {
+
+		int index = size - 1;
+		int word = index >>> MOVEMENTS_PER_WORD_SHIFT;
+		int shift = (index & MOVEMENTS_PER_WORD_MASK) * BITS_PER_MOVEMENT;
+		int code = codeAt(index);
+
+		writableChunk(word >>> WORDS_PER_CHUNK_SHIFT)[word & WORDS_PER_CHUNK_MASK] &= ~(((long) MOVEMENT_MASK) << shift);
+		size = index;
+		removals++;
+		return code;
+	}
+
+	private static Movements[] decodingTable() {
+		var table = Arrays.copyOf(MOVEMENTS, MOVEMENT_MASK + 1);
+		table[NO_OP_PA] = Movements.PA;
+		table[NO_OP_PB] = Movements.PB;
+		return table;
+	}
+
+	/**
+	 * Merges already shifted movement bits into the current word and 
+	 * advances the size. The movements must all fit in the current word.
+	 */
+	private void orWord(long bits, int count) {
+
+		int word = size >>> MOVEMENTS_PER_WORD_SHIFT;
+		int chunk = word >>> WORDS_PER_CHUNK_SHIFT;
+
+		if (chunk == chunks.length) growChunkTable();
+
+		writableChunk(chunk)[word & WORDS_PER_CHUNK_MASK] |= bits;
+		size += count;
+	}
+
+	private int codeAt(int index) {
+		int word = index >>> MOVEMENTS_PER_WORD_SHIFT;
+		int shift = (index & MOVEMENTS_PER_WORD_MASK) * BITS_PER_MOVEMENT;
+		long bits = chunks[word >>> WORDS_PER_CHUNK_SHIFT][word & WORDS_PER_CHUNK_MASK];
+		return (int) (bits >>> shift) & MOVEMENT_MASK;
+	}
+
+	private void growChunkTable() {
+		chunks = Arrays.copyOf(chunks, chunks.length << 1);
+		owners = Arrays.copyOf(owners, owners.length << 1);
+		tableShared = false;
+	}
+
+	private long[] writableChunk(int chunk) {
+
+		if (owners[chunk] != token || token.isForked()) {
+			if (token.isForked()) {
+				token = new ChunkOwner();
+				tableShared = true;
+			}
+			if (tableShared) {
+				chunks = chunks.clone();
+				owners = owners.clone();
+				tableShared = false;
+			}
+			chunks[chunk] = (chunks[chunk] == null 
+					? new long[WORDS_PER_CHUNK] : chunks[chunk].clone());
+			owners[chunk] = token;
+		}
+
+		return chunks[chunk];
+	}
+
+	private final class Cursor implements Iterator<Movements> {
+
+		private final int expectedRemovals = removals;
+		private int index;
+		private int loadedLimit;
+		private long bits;
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public Movements next() {
+
+			// the cached word is stale once a movement is removed
+			if (removals != expectedRemovals) throw new ConcurrentModificationException();
+			if (index >= size) throw new NoSuchElementException();
+
+			int offset = index & MOVEMENTS_PER_WORD_MASK;
+
+			if (offset == 0 || index >= loadedLimit) {
+				int word = index >>> MOVEMENTS_PER_WORD_SHIFT;
+				bits = chunks[word >>> WORDS_PER_CHUNK_SHIFT][word & WORDS_PER_CHUNK_MASK];
+				loadedLimit = size;
+			}
+
+			index++;
+			return DECODED[(int) (bits >>> (offset * BITS_PER_MOVEMENT)) & MOVEMENT_MASK];
+		}
+	}
+
+	private final class ListView extends AbstractList<Movements> implements RandomAccess {
+
+		@Override
+		public Movements get(int index) {
+			return MovementLog.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Iterator<Movements> iterator() {
+			return new Cursor();
+		}
+	}
+}
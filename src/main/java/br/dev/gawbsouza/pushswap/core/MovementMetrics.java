@@ -0,0 +1,159 @@
+package br.dev.gawbsouza.pushswap.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code MovementListener} that collects metrics of the movements executed
+ * on a game: counters per movement, no-op counters per movement, the peak 
+ * size of stack B and the time spent in each solver phase.<br><br>
+ * 
+ * Phases with the same name are added up and phases may be nested. A phase
+ * nested in another one with the same name is timed once, from the start 
+ * of the outermost one to its end. The metrics are not thread-safe, so an instance should only listen to games 
+ * used by a single thread.
+ */
+public final class MovementMetrics implements MovementListener {
+
+	private static final Movements[] MOVEMENTS = Movements.values();
+
+	private final long[] counts = new long[MOVEMENTS.length];
+	private final long[] noOps = new long[MOVEMENTS.length];
+	private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+	private final Map<String, Long> phaseStarts = new HashMap<>();
+	private final Map<String, Integer> phaseDepths = new HashMap<>();
+	private int peakSizeB;
+
+	@Override
+	public void onMovement(PushSwap game, Movements movement, boolean changed) {
+		counts[movement.ordinal()]++;
+		if (!changed) noOps[movement.ordinal()]++;
+		if (game.sizeB() > peakSizeB) peakSizeB = game.sizeB();
+	}
+
+	@Override
+	public void onPhaseStart(PushSwap game, String phase) {
+		if (phaseDepths.merge(phase, 1, Integer::sum) == 1)
+			phaseStarts.put(phase, System.nanoTime());
+	}
+
+	@Override
+	public void onPhaseEnd(PushSwap game, String phase) {
+
+		Integer depth = phaseDepths.get(phase);
+
+		if (depth == null)
+			throw new IllegalStateException("Phase was not started: " + phase);
+
+		if (depth > 1) {
+			phaseDepths.put(phase, depth - 1);
+			return;
+		}
+
+		phaseDepths.remove(phase);
+		phaseNanos.merge(phase, System.nanoTime() - phaseStarts.remove(phase), Long::sum);
+	}
+
+	/**
+	 * Gets the number of times a movement was executed, no-ops included.
+	 * @param movement to be counted
+	 * @return number of executions
+	 */
+	public long getCount(Movements movement) {
+		return counts[movement.ordinal()];
+	}
+
+	/**
+	 * Gets the number of times a movement was executed without changing the
+	 * stacks.
+	 * @param movement to be counted
+	 * @return number of no-op executions
+	 */
+	public long getNoOpCount(Movements movement) {
+		return noOps[movement.ordinal()];
+	}
+
+	/**
+	 * Gets the number of executed movements, no-ops included.
+	 * @return number of movements
+	 */
+	public long getTotalCount() {
+		long total = 0;
+		for (long count : counts) total += count;
+		return total;
+	}
+
+	/**
+	 * Gets the number of executed movements that did not change the stacks.
+	 * @return number of no-op movements
+	 */
+	public long getTotalNoOpCount() {
+		long total = 0;
+		for (long count : noOps) total += count;
+		return total;
+	}
+
+	/**
+	 * Gets the largest size of stack B after a movement.
+	 * @return peak size of stack B
+	 */
+	public int getPeakSizeB() {
+		return peakSizeB;
+	}
+
+	/**
+	 * Gets the time spent in a phase, adding up every time it ran.
+	 * @param phase name of the phase
+	 * @return nanoseconds spent in the phase, zero if it never ended
+	 */
+	public long getPhaseNanos(String phase) {
+		return phaseNanos.getOrDefault(phase, 0L);
+	}
+
+	/**
+	 * Gets the time spent in each phase, in the order they first ended.
+	 * @return read-only view of the nanoseconds spent in each phase
+	 */
+	public Map<String, Long> getPhaseNanos() {
+		return Collections.unmodifiableMap(phaseNanos);
+	}
+
+	/**
+	 * Clears every metric.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = 0;
+			noOps[i] = 0;
+		}
+		phaseNanos.clear();
+		phaseStarts.clear();
+		phaseDepths.clear();
+		peakSizeB = 0;
+	}
+
+	@Override
+	public String toString() {
+
+		var text = new StringBuilder();
+
+		text.append("moves: ").append(getTotalCount())
+			.append(", no-ops: ").append(getTotalNoOpCount())
+			.append(", peak B: ").append(peakSizeB).append('\n');
+
+		for (var movement : MOVEMENTS) {
+			text.append(movement).append(": ").append(getCount(movement));
+			if (getNoOpCount(movement) > 0)
+				text.append(" (").append(getNoOpCount(movement)).append(" no-op)");
+			text.append('\n');
+		}
+
+		for (var phase : phaseNanos.entrySet()) {
+			text.append(phase.getKey()).append(": ").append(phase.getValue()).append(" ns\n");
+		}
+
+		return text.toString();
+	}
+}
@@ -1,7 +1,14 @@
 package br.dev.gawbsouza.pushswap.core;
 
+import java.nio.ByteBuffer;
+
 /**
- * Enum of movements that can be executed by {@code PushSwap}
+ * Enum of movements that can be executed by {@code PushSwap}.<br><br>
+ * 
+ * Each movement keeps its lowercase name as a {@code String} and as ASCII 
+ * bytes, computed once, so printing or writing movements never allocates.
+ * The matching parser reads a movement from raw bytes packed into an 
+ * {@code int}, also without allocating.
  */
 public enum Movements {
 
@@ -9,9 +16,105 @@ public enum Movements {
 	PA, PB,
 	RA, RB, RR,
 	RRA, RRB, RRR;
-	
+
+	/**
+	 * Code returned by the parser for an invalid movement.
+	 */
+	public static final int INVALID = -1;
+
+	/**
+	 * Longest movement name, in bytes.
+	 */
+	public static final int MAX_LENGTH = 3;
+
+	private static final Movements[] VALUES = values();
+
+	private final String text;
+	private final byte[] bytes;
+
+	Movements() {
+		text = name().toLowerCase();
+		bytes = new byte[text.length()];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) text.charAt(i);
+		}
+	}
+
+	/**
+	 * Gets the number of bytes of the lowercase name.
+	 * @return length of the encoded movement
+	 */
+	public int encodedLength() {
+		return bytes.length;
+	}
+
+	/**
+	 * Puts the lowercase name, in ASCII, into a buffer.
+	 * @param buffer with at least {@code encodedLength()} bytes remaining
+	 */
+	public void encodeTo(ByteBuffer buffer) {
+		buffer.put(bytes);
+	}
+
+	/**
+	 * Gets the movement of a code, which is its ordinal, without copying the
+	 * values array.
+	 * @param code ordinal of the movement
+	 * @return movement of the code
+	 * @throws ArrayIndexOutOfBoundsException if the code is not valid
+	 */
+	public static Movements ofCode(int code) {
+		return VALUES[code];
+	}
+
+	/**
+	 * Gets the code of a movement from its lowercase name in ASCII bytes.
+	 * Any byte that is not a lowercase letter makes the name invalid.
+	 * @param bytes holding the name
+	 * @param from index of the first byte of the name
+	 * @param to index after the last byte of the name
+	 * @return ordinal of the movement, or {@code INVALID}
+	 */
+	public static int codeOf(byte[] bytes, int from, int to) {
+
+		if (to - from > MAX_LENGTH) return INVALID;
+
+		int token = 0;
+		for (int i = from; i < to; i++) {
+			// a NUL byte would add nothing to the token, so check every byte
+			if (bytes[i] < 'a' || bytes[i] > 'z') return INVALID;
+			token = (token << 8) | bytes[i];
+		}
+
+		return codeOf(token);
+	}
+
+	/**
+	 * Gets the code of a movement from its lowercase name, with its ASCII 
+	 * bytes packed into an int, the first byte being the most significant 
+	 * one.
+	 * @param token packed name, of at most {@code MAX_LENGTH} bytes
+	 * @return ordinal of the movement, or {@code INVALID}
+	 */
+	public static int codeOf(int token) {
+		switch (token) {
+		case ('s' << 8) | 'a': return 0;
+		case ('s' << 8) | 'b': return 1;
+		case ('s' << 8) | 's': return 2;
+		case ('p' << 8) | 'a': return 3;
+		case ('p' << 8) | 'b': return 4;
+		case ('r' << 8) | 'a': return 5;
+		case ('r' << 8) | 'b': return 6;
+		case ('r' << 8) | 'r': return 7;
+		case ('r' << 16) | ('r' << 8) | 'a': return 8;
+		case ('r' << 16) | ('r' << 8) | 'b': return 9;
+		case ('r' << 16) | ('r' << 8) | 'r': return 10;
+		default: return INVALID;
+		}
+	}
+
 	@Override
 	public String toString() {
-		return super.toString().toLowerCase();
+		return text;
 	}
 }
@@ -1,8 +1,12 @@
 package br.dev.gawbsouza.pushswap.core;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
 import java.util.List;
+import java.util.Objects;
 import java.util.Stack;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 
 /**
@@ -17,27 +21,175 @@ import java.util.Stack;
  */
 public final class PushSwap {
 
-	private final int INITIAL_MOVEMENTS_CAPACITY = 128;
+	/**
+	 * When the {@code pushswap.debug} system property is true, every order
+	 * check cross-checks the incremental counters against a full scan.
+	 */
+	private static final boolean DEBUG = Boolean.getBoolean("pushswap.debug");
+
+	private static final Movements[] MOVEMENTS = Movements.values();
 
-	private Stack<Integer> a;
-	private Stack<Integer> b;
-	private List<Movements> movements;
+	private IntRing a;
+	private IntRing b;
+	private MovementLog movements;
+	private int[] sortedValues;
+	private MovementListener listener = MovementListener.NONE;
+	private Recording recording = Recording.FULL;
+	private boolean logging = true;
+	private int countStep = 1;
+	private int unlogged;
+	private int undoFloor;
 
 	/**
 	 * PushSwap constructor with initial values from stack A.
 	 * @param numbers starting numbers from stack A
 	 */
 	public PushSwap(int... numbers) {
+		this(numbers, numbers.length, null);
+	}
 
-		a = new Stack<>();
-		b = new Stack<>();
+	private PushSwap(int[] items, int count, int[] sortedValues) {
+		a = IntRing.of(items, count, true);
+		b = new IntRing(count, false);
+		movements = new MovementLog();
+		this.sortedValues = sortedValues;
+	}
 
-		movements = new ArrayList<>(INITIAL_MOVEMENTS_CAPACITY);
-		a.ensureCapacity(numbers.length);
+	private PushSwap(PushSwap source) {
+		a = source.a.fork();
+		b = source.b.fork();
+		movements = source.movements.fork();
+		sortedValues = source.sortedValues;
+		recording = source.recording;
+		logging = source.logging;
+		countStep = source.countStep;
+		unlogged = source.unlogged;
+		undoFloor = source.undoFloor;
+	}
 
-		for (int i = numbers.length - 1; i >= 0; i--) {
-			a.push(numbers[i]);
+	/**
+	 * Creates an independent copy of this game in O(1).<br><br>
+	 * 
+	 * Both games share the stack storage and the movement log recorded so 
+	 * far, copy-on-write: the first movement that writes to a shared chunk 
+	 * copies only that chunk. Movements executed on either game never 
+	 * affect the other one. The fork keeps the recording level and starts 
+	 * without a movement listener.<br><br>
+	 * 
+	 * Forking only reads this game, so several threads can fork it at the 
+	 * same time, as long as no movement is executed on it meanwhile.
+	 * @return the copy, with the same stacks and movement log
+	 */
+	public PushSwap fork() {
+		return new PushSwap(this);
+	}
+
+	/**
+	 * Creates a rank normalized PushSwap with initial values from stack A.
+	 * <br><br>
+	 * The numbers are sorted once, duplicates are rejected during that pass 
+	 * and each number gets a dense rank from {@code 0} to {@code n - 1}. 
+	 * The stacks keep the ranks internally, so solvers can read them in O(1)
+	 * with {@code peekRankA}/{@code peekRankB} and index plain arrays with 
+	 * them, while the value accessors keep returning the original numbers.
+	 * @param numbers starting numbers from stack A
+	 * @return a rank normalized PushSwap
+	 * @throws IllegalArgumentException if there are duplicated numbers
+	 */
+	public static PushSwap normalized(int... numbers) {
+		return adopt(numbers.clone(), numbers.length, true);
+	}
+
+	/**
+	 * Creates a PushSwap from an array of starting numbers, with no 
+	 * intermediate collection: the numbers (or ranks) are copied once, in a 
+	 * single scan, into the chunked stack storage. When normalized, the 
+	 * array is first overwritten with the ranks, so the caller must not 
+	 * reuse it.
+	 * @param numbers starting numbers from stack A, from the top
+	 * @param count number of numbers to be taken from the array
+	 * @param normalize true to create a rank normalized PushSwap
+	 * @return the PushSwap
+	 * @throws IllegalArgumentException if normalized and there are 
+	 * duplicated numbers
+	 */
+	static PushSwap adopt(int[] numbers, int count, boolean normalize) {
+
+		if (!normalize) return new PushSwap(numbers, count, null);
+
+		var sorted = Arrays.copyOf(numbers, count);
+		Arrays.sort(sorted);
+
+		for (int i = 1; i < sorted.length; i++) {
+			if (sorted[i - 1] == sorted[i])
+				throw new IllegalArgumentException("Duplicated number: " + sorted[i]);
 		}
+
+		for (int i = 0; i < count; i++) {
+			numbers[i] = Arrays.binarySearch(sorted, numbers[i]);
+		}
+
+		return new PushSwap(numbers, count, sorted);
+	}
+
+	/**
+	 * Checks whether this PushSwap was created rank normalized.
+	 * @return true if rank accessors are available
+	 */
+	public boolean isNormalized() {
+		return (sortedValues != null);
+	}
+
+	/**
+	 * Gets the dense rank of a number, in O(log n).
+	 * @param value one of the starting numbers
+	 * @return rank of the number, from {@code 0} to {@code n - 1}
+	 * @throws IllegalStateException if this PushSwap is not normalized
+	 * @throws IllegalArgumentException if the number is not in the game
+	 */
+	public int rankOf(int value) {
+
+		int rank = Arrays.binarySearch(requireSortedValues(), value);
+
+		if (rank < 0)
+			throw new IllegalArgumentException("Number not in the game: " + value);
+
+		return rank;
+	}
+
+	/**
+	 * Gets the number that has a given rank, in O(1).
+	 * @param rank from {@code 0} to {@code n - 1}
+	 * @return number with the given rank
+	 * @throws IllegalStateException if this PushSwap is not normalized
+	 * @throws IndexOutOfBoundsException if the rank is out of range
+	 */
+	public int valueOfRank(int rank) {
+		return requireSortedValues()[rank];
+	}
+
+	/**
+	 * Gets the rank of an item from stack A without removing it.
+	 * @param depthFromTop distance from the top, where zero is the top item
+	 * @return rank of the item at the given depth
+	 * @throws IllegalStateException if this PushSwap is not normalized
+	 * @throws IndexOutOfBoundsException if there is no item at that depth
+	 */
+	public int peekRankA(int depthFromTop) {
+		requireSortedValues();
+		return peek(a, depthFromTop);
+	}
+
+	/**
+	 * Gets the rank of an item from stack B without removing it.
+	 * @param depthFromTop distance from the top, where zero is the top item
+	 * @return rank of the item at the given depth
+	 * @throws IllegalStateException if this PushSwap is not normalized
+	 * @throws IndexOutOfBoundsException if there is no item at that depth
+	 */
+	public int peekRankB(int depthFromTop) {
+		requireSortedValues();
+		return peek(b, depthFromTop);
 	}
 
 	/**
@@ -45,9 +197,7 @@ public final class PushSwap {
 	 * @return copy of the internal A stack
 	 */
 	public Stack<Integer> getStackA() {
-		var copy = new Stack<Integer>();
-		copy.addAll(a);
-		return copy;
+		return copyOf(a);
 	}
 
 	/**
@@ -55,19 +205,202 @@ public final class PushSwap {
 	 * @return copy of the internal B stack
 	 */
 	public Stack<Integer> getStackB() {
-		var copy = new Stack<Integer>();
-		copy.addAll(b);
-		return copy;
+		return copyOf(b);
+	}
+
+	/**
+	 * Gets the number of items on stack A.
+	 * @return number of items on stack A
+	 */
+	public int sizeA() {
+		return a.size();
+	}
+
+	/**
+	 * Gets the number of items on stack B.
+	 * @return number of items on stack B
+	 */
+	public int sizeB() {
+		return b.size();
+	}
+
+	/**
+	 * Gets an item from stack A without removing it.
+	 * @param depthFromTop distance from the top, where zero is the top item
+	 * @return item at the given depth
+	 * @throws IndexOutOfBoundsException if there is no item at that depth
+	 */
+	public int peekA(int depthFromTop) {
+		return valueOf(peek(a, depthFromTop));
 	}
 
 	/**
-	 * Gets a list of executed movements.
-	 * @return a list of executed movements
+	 * Gets an item from stack B without removing it.
+	 * @param depthFromTop distance from the top, where zero is the top item
+	 * @return item at the given depth
+	 * @throws IndexOutOfBoundsException if there is no item at that depth
+	 */
+	public int peekB(int depthFromTop) {
+		return valueOf(peek(b, depthFromTop));
+	}
+
+	/**
+	 * Gets the top item from stack A without removing it.
+	 * @return top item from stack A
+	 * @throws EmptyStackException if stack A is empty
+	 */
+	public int topA() {
+		return valueOf(top(a));
+	}
+
+	/**
+	 * Gets the top item from stack B without removing it.
+	 * @return top item from stack B
+	 * @throws EmptyStackException if stack B is empty
+	 */
+	public int topB() {
+		return valueOf(top(b));
+	}
+
+	/**
+	 * Gets the bottom item from stack A without removing it.
+	 * @return bottom item from stack A
+	 * @throws EmptyStackException if stack A is empty
+	 */
+	public int bottomA() {
+		return valueOf(bottom(a));
+	}
+
+	/**
+	 * Gets the bottom item from stack B without removing it.
+	 * @return bottom item from stack B
+	 * @throws EmptyStackException if stack B is empty
+	 */
+	public int bottomB() {
+		return valueOf(bottom(b));
+	}
+
+	/**
+	 * Gets a stream over the items of stack A, from the top to the bottom.
+	 * <br>
+	 * The stream reads the live stack, so it must not be consumed while 
+	 * movements are being executed.
+	 * @return stream over the items of stack A
+	 */
+	public IntStream streamA() {
+		return stream(a);
+	}
+
+	/**
+	 * Gets a stream over the items of stack B, from the top to the bottom.
+	 * <br>
+	 * The stream reads the live stack, so it must not be consumed while 
+	 * movements are being executed.
+	 * @return stream over the items of stack B
+	 */
+	public IntStream streamB() {
+		return stream(b);
+	}
+
+	/**
+	 * Executes an action for each item of stack A, from the top to the 
+	 * bottom.
+	 * @param action to be executed for each item
+	 */
+	public void forEachA(IntConsumer action) {
+		forEach(a, action);
+	}
+
+	/**
+	 * Executes an action for each item of stack B, from the top to the 
+	 * bottom.
+	 * @param action to be executed for each item
+	 */
+	public void forEachB(IntConsumer action) {
+		forEach(b, action);
+	}
+
+	/**
+	 * Installs a listener notified of every executed movement and solver 
+	 * phase.<br>
+	 * Without a listener the game uses {@code MovementListener.NONE}, whose 
+	 * calls cost nothing once compiled.
+	 * @param listener to be notified, or null to remove the current one
+	 */
+	public void setMovementListener(MovementListener listener) {
+		this.listener = (listener == null ? MovementListener.NONE : listener);
+	}
+
+	/**
+	 * Gets the installed movement listener.
+	 * @return the listener, {@code MovementListener.NONE} if there is none
+	 */
+	public MovementListener getMovementListener() {
+		return listener;
+	}
+
+	/**
+	 * Marks the start of a solver phase, notifying the movement listener.
+	 * @param phase name of the phase
+	 */
+	public void startPhase(String phase) {
+		listener.onPhaseStart(this, phase);
+	}
+
+	/**
+	 * Marks the end of a solver phase, notifying the movement listener.
+	 * @param phase name of the phase
+	 */
+	public void endPhase(String phase) {
+		listener.onPhaseEnd(this, phase);
+	}
+
+	/**
+	 * Sets the level at which the executed movements are recorded.<br><br>
+	 * 
+	 * With {@code FULL}, the default, every movement goes to the movement 
+	 * log. With {@code COUNT} the movements only increase 
+	 * {@code getMovementCount}, and with {@code NONE} they are not even 
+	 * counted, so simulations that throw the movements away skip the log 
+	 * growth. Either way the movement methods stay allocation-free and take
+	 * the same branch on every call.<br>
+	 * The movement log keeps what was recorded before, but movements 
+	 * executed while not at {@code FULL} are not in it.
+	 * @param recording level at which the movements are recorded
+	 */
+	public void setRecording(Recording recording) {
+		this.recording = Objects.requireNonNull(recording);
+		logging = (recording == Recording.FULL);
+		countStep = (recording == Recording.COUNT ? 1 : 0);
+	}
+
+	/**
+	 * Gets the level at which the executed movements are recorded.
+	 * @return the recording level, {@code FULL} unless changed
+	 */
+	public Recording getRecording() {
+		return recording;
+	}
+
+	/**
+	 * Gets a list of executed movements.<br>
+	 * The list is a read-only view over the internal movement log, so it is
+	 * obtained in O(1) and reflects the movements executed afterwards. Only
+	 * movements executed at the {@code FULL} recording level are listed.
+	 * @return a read-only list of executed movements
 	 */
 	public List<Movements> getMovements() {
-		var copy = new ArrayList<Movements>();
-		copy.addAll(movements);
-		return copy;
+		return movements.asList();
+	}
+
+	/**
+	 * Gets the number of recorded movements, in O(1): the ones in the 
+	 * movement log plus the ones counted at the {@code COUNT} recording 
+	 * level.
+	 * @return number of recorded movements
+	 */
+	public int getMovementCount() {
+		return movements.size() + unlogged;
 	}
 	
 	/**
@@ -77,7 +410,25 @@ public final class PushSwap {
 	 * @return true if the "game" was successfully completed.
 	 */
 	public boolean isSolved() {
-		return (b.size() == 0 && isStackOrdered(a));
+		return (b.size() == 0 && isAOrdered());
+	}
+
+	/**
+	 * Checks whether stack A is sorted in ascending order, in O(1).
+	 * @return true if stack A is ordered
+	 */
+	public boolean isAOrdered() {
+		return (checkedBreaks(a) == 0);
+	}
+
+	/**
+	 * Checks whether stack B is sorted in descending order, in O(1). <br>
+	 * A stack B in descending order can be pushed back onto A keeping the 
+	 * ascending order.
+	 * @return true if stack B is ordered
+	 */
+	public boolean isBOrdered() {
+		return (checkedBreaks(b) == 0);
 	}
 
 	/**
@@ -97,14 +448,206 @@ public final class PushSwap {
 		return true;
 	}
 
+	/**
+	 * Gets a 64-bit hash of the current stacks, in O(1).<br><br>
+	 * 
+	 * Each stack keeps a polynomial rolling hash of its items that every 
+	 * movement, rotations included, updates in O(1), so the hash can key 
+	 * transposition tables directly. The movement log does not take part in
+	 * it: two games that reach the same stacks through different movements 
+	 * have the same hash. Different states may still collide, which 
+	 * {@code stateEquals} resolves exactly.
+	 * @return hash of the current stacks
+	 * @see #stateEquals(PushSwap)
+	 */
+	public long stateHash() {
+		return IntRing.mix(checkedHash(a) * 31 + checkedHash(b) + a.size());
+	}
+
+	/**
+	 * Checks whether two games have the same items, in the same order, on 
+	 * both stacks. The movement logs are not compared.<br>
+	 * Games with different hashes are told apart in O(1), otherwise every 
+	 * item is compared. A normalized game is only equal to a normalized game
+	 * created from the same numbers.
+	 * @param other game to be compared
+	 * @return true if both games are in the same state
+	 * @see #stateHash()
+	 */
+	public boolean stateEquals(PushSwap other) {
+
+		if (other == this) return true;
+
+		if (sortedValues != other.sortedValues 
+				&& (sortedValues == null || !Arrays.equals(sortedValues, other.sortedValues)))
+			return false;
+
+		return (a.sameItems(other.a) && b.sameItems(other.b));
+	}
+
+	/**
+	 * Executes a movement given by its {@code Movements} value.
+	 * @param movement to be executed
+	 */
+	public void execute(Movements movement) {
+		switch (movement) {
+		case SA: sa(); break;
+		case SB: sb(); break;
+		case SS: ss(); break;
+		case PA: pa(); break;
+		case PB: pb(); break;
+		case RA: ra(); break;
+		case RB: rb(); break;
+		case RR: rr(); break;
+		case RRA: rra(); break;
+		case RRB: rrb(); break;
+		case RRR: rrr(); break;
+		}
+	}
+
+	/**
+	 * Executes an encoded movement program in a single interpreter loop.
+	 * <br>
+	 * Each byte is the ordinal of a {@code Movements} value. The executed 
+	 * movements are appended to the movement log in bulk at the end.
+	 * @param program encoded movements
+	 * @param from index of the first movement to be executed
+	 * @param to index after the last movement to be executed
+	 * @throws IllegalArgumentException if the program has an invalid code,
+	 * in which case the movements before it stay executed and recorded
+	 */
+	public void apply(byte[] program, int from, int to) {
+		apply(program, from, to, true);
+	}
+
+	/**
+	 * Executes an encoded movement program in a single interpreter loop.
+	 * @param program encoded movements, one {@code Movements} ordinal each
+	 * @param from index of the first movement to be executed
+	 * @param to index after the last movement to be executed
+	 * @param record false to skip recording, for instance when only the 
+	 * final state matters; when true the movements are recorded at the 
+	 * current recording level
+	 * @throws IllegalArgumentException if the program has an invalid code,
+	 * in which case the movements before it stay executed
+	 */
+	public void apply(byte[] program, int from, int to, boolean record) {
+
+		Objects.checkFromToIndex(from, to, program.length);
+
+		boolean log = (record && logging);
+		int index = from;
+		int pending = from;
+
+		try {
+			for (; index < to; index++) {
+				int code = program[index];
+				int recorded = run(code);
+				if (log && recorded != code) {
+					movements.addAll(program, pending, index);
+					movements.addCode(recorded);
+					pending = index + 1;
+				}
+			}
+		} finally {
+			if (log) movements.addAll(program, pending, index);
+			else if (index > from) skipLog(record ? index - from : 0);
+		}
+	}
+
+	/**
+	 * Executes a movement program in a single interpreter loop.<br>
+	 * The executed movements are appended to the movement log in bulk at the
+	 * end.
+	 * @param program movements to be executed
+	 * @param from index of the first movement to be executed
+	 * @param to index after the last movement to be executed
+	 */
+	public void apply(Movements[] program, int from, int to) {
+		apply(program, from, to, true);
+	}
+
+	/**
+	 * Executes a movement program in a single interpreter loop.
+	 * @param program movements to be executed
+	 * @param from index of the first movement to be executed
+	 * @param to index after the last movement to be executed
+	 * @param record false to skip recording, for instance when only the 
+	 * final state matters; when true the movements are recorded at the 
+	 * current recording level
+	 */
+	public void apply(Movements[] program, int from, int to, boolean record) {
+
+		Objects.checkFromToIndex(from, to, program.length);
+
+		boolean log = (record && logging);
+		int pending = from;
+
+		for (int index = from; index < to; index++) {
+			int code = program[index].ordinal();
+			int recorded = run(code);
+			if (log && recorded != code) {
+				movements.addAll(program, pending, index);
+				movements.addCode(recorded);
+				pending = index + 1;
+			}
+		}
+
+		if (log) movements.addAll(program, pending, to);
+		else if (to > from) skipLog(record ? to - from : 0);
+	}
+
+	/**
+	 * Undoes the last recorded movement in O(1), executing its inverse and
+	 * removing it from the movement log.<br>
+	 * Every movement has an exact inverse (SA/SB/SS undo themselves, PA and
+	 * PB undo each other and each rotation is undone by the opposite one). 
+	 * A PA or PB executed with an empty source stack is recorded as such, so
+	 * undoing it changes nothing. Movements executed without recording, or 
+	 * below the {@code FULL} recording level, can not be undone, and neither
+	 * can the logged movements executed before them.
+	 * @throws IllegalStateException if the recording level is not 
+	 * {@code FULL} or there is no movement that can be undone
+	 */
+	public void undo() {
+
+		requireFullRecording();
+
+		if (movements.size() <= undoFloor)
+			throw new IllegalStateException(movements.size() == 0 ? "There is no movement to undo" 
+					: "Can not undo past movements executed without the movement log");
+
+		runInverse(movements.removeLast());
+	}
+
+	/**
+	 * Undoes the last recorded movements, from the most recent one.
+	 * @param count number of movements to undo
+	 * @throws IllegalStateException if the recording level is not 
+	 * {@code FULL} or fewer movements can be undone
+	 * @see #undo()
+	 */
+	public void undo(int count) {
+
+		requireFullRecording();
+
+		if (count < 0 || count > movements.size() - undoFloor)
+			throw new IllegalStateException("Can not undo " + count 
+					+ " of " + (movements.size() - undoFloor) + " movements");
+
+		for (int i = 0; i < count; i++) {
+			runInverse(movements.removeLast());
+		}
+	}
+
 	/**
 	 * <strong>SA movement</strong>
 	 * <br><br>
 	 * Swap the first with the second item from A stack.
 	 */
 	public void sa() {
-		movements.add(Movements.SA);
-		swap(a);
+		record(Movements.SA.ordinal());
+		notify(Movements.SA, swap(a));
 	}
 	
 	/**
@@ -113,8 +656,8 @@ public final class PushSwap {
 	 * Swap the first with the second item from B stack
 	 */
 	public void sb() {
-		movements.add(Movements.SB);
-		swap(b);
+		record(Movements.SB.ordinal());
+		notify(Movements.SB, swap(b));
 	}
 	
 	/**
@@ -124,9 +667,8 @@ public final class PushSwap {
 	 * simultaneously.
 	 */
 	public void ss() {
-		movements.add(Movements.SS);
-		swap(a);
-		swap(b);
+		record(Movements.SS.ordinal());
+		notify(Movements.SS, swap(a) | swap(b));
 	}
 	
 	/**
@@ -136,8 +678,9 @@ public final class PushSwap {
 	 * If stack B is empty no item is pushed, but movement is still counted.
 	 */
 	public void pa() {
-		movements.add(Movements.PA);
-		popFromPushTo(b, a);
+		boolean changed = popFromPushTo(b, a);
+		record(changed ? Movements.PA.ordinal() : MovementLog.NO_OP_PA);
+		notify(Movements.PA, changed);
 	}
 	
 	/**
@@ -147,8 +690,9 @@ public final class PushSwap {
 	 * If stack A is empty no item is pushed, but movement is still counted.
 	 */
 	public void pb() {
-		movements.add(Movements.PB);
-		popFromPushTo(a, b);
+		boolean changed = popFromPushTo(a, b);
+		record(changed ? Movements.PB.ordinal() : MovementLog.NO_OP_PB);
+		notify(Movements.PB, changed);
 	}
 
 	/**
@@ -158,8 +702,8 @@ public final class PushSwap {
 	 * items upwards.
 	 */
 	public void ra() {
-		movements.add(Movements.RA);
-		rotateUp(a);
+		record(Movements.RA.ordinal());
+		notify(Movements.RA, rotateUp(a));
 	}
 	
 	/**
@@ -169,8 +713,8 @@ public final class PushSwap {
 	 * items upwards.
 	 */
 	public void rb() {
-		movements.add(Movements.RB);
-		rotateUp(b);
+		record(Movements.RB.ordinal());
+		notify(Movements.RB, rotateUp(b));
 	}
 	
 	/**
@@ -180,9 +724,8 @@ public final class PushSwap {
 	 * time, rotating stack items upwards.
 	 */
 	public void rr() {
-		movements.add(Movements.RR);
-		rotateUp(a);
-		rotateUp(b);
+		record(Movements.RR.ordinal());
+		notify(Movements.RR, rotateUp(a) | rotateUp(b));
 	}
 
 	/**
@@ -192,8 +735,8 @@ public final class PushSwap {
 	 * downwards.
 	 */
 	public void rra() {
-		movements.add(Movements.RRA);
-		rotateDown(a);
+		record(Movements.RRA.ordinal());
+		notify(Movements.RRA, rotateDown(a));
 	}
 	
 	/**
@@ -203,8 +746,8 @@ public final class PushSwap {
 	 * downwards.
 	 */
 	public void rrb() {
-		movements.add(Movements.RRB);
-		rotateDown(b);
+		record(Movements.RRB.ordinal());
+		notify(Movements.RRB, rotateDown(b));
 	}
 	
 	/**
@@ -214,51 +757,199 @@ public final class PushSwap {
 	 * rotating stack items downwards.
 	 */
 	public void rrr() {
-		movements.add(Movements.RRR);
-		rotateDown(a);
-		rotateDown(b);
+		record(Movements.RRR.ordinal());
+		notify(Movements.RRR, rotateDown(a) | rotateDown(b));
 	}
 	
-	private void swap(Stack<Integer> stack) {
-		
-		if (hasAtMostOneItemOnStack(stack)) return;
-		
-		int secondItemIndex = stack.size() - 2;
-		int firstItemIndex = stack.size() - 1;
+	/**
+	 * Executes a movement without recording it. The codes are the ordinals
+	 * of {@code Movements}.
+	 * @return code to be recorded, which differs from the given one only 
+	 * for a PA or PB with an empty source stack
+	 */
+	private int run(int code) {
 
-		int secondItemValue = stack.get(secondItemIndex);
-		int firstItemValue = stack.get(firstItemIndex);
+		boolean changed;
 
-		stack.set(firstItemIndex, secondItemValue);
-		stack.set(secondItemIndex, firstItemValue);
+		switch (code) {
+		case 0: changed = swap(a); break;
+		case 1: changed = swap(b); break;
+		case 2: changed = swap(a) | swap(b); break;
+		case 3: changed = popFromPushTo(b, a); break;
+		case 4: changed = popFromPushTo(a, b); break;
+		case 5: changed = rotateUp(a); break;
+		case 6: changed = rotateUp(b); break;
+		case 7: changed = rotateUp(a) | rotateUp(b); break;
+		case 8: changed = rotateDown(a); break;
+		case 9: changed = rotateDown(b); break;
+		case 10: changed = rotateDown(a) | rotateDown(b); break;
+		default: throw new IllegalArgumentException("Invalid movement code: " + code);
+		}
+
+		notify(MOVEMENTS[code], changed);
+
+		if (!changed && code == 3) return MovementLog.NO_OP_PA;
+		if (!changed && code == 4) return MovementLog.NO_OP_PB;
+		return code;
 	}
 	
-	private void rotateUp(Stack<Integer> stack) {
-
-		if (hasAtMostOneItemOnStack(stack)) return;
+	/**
+	 * Executes the inverse of a recorded movement code.
+	 */
+	private void runInverse(int code) {
+		switch (code) {
+		case 0: swap(a); break;
+		case 1: swap(b); break;
+		case 2: swap(a); swap(b); break;
+		case 3: popFromPushTo(a, b); break;
+		case 4: popFromPushTo(b, a); break;
+		case 5: rotateDown(a); break;
+		case 6: rotateDown(b); break;
+		case 7: rotateDown(a); rotateDown(b); break;
+		case 8: rotateUp(a); break;
+		case 9: rotateUp(b); break;
+		case 10: rotateUp(a); rotateUp(b); break;
+		default: break; // PA or PB that found the source stack empty
+		}
+	}
+	
+	/**
+	 * Records a movement code at the current recording level. The level only
+	 * changes through {@code setRecording}, so the branch is always taken 
+	 * the same way in a hot loop, and the count step is zero at 
+	 * {@code NONE}.
+	 */
+	private void record(int code) {
+		if (logging) movements.addCode(code);
+		else skipLog(1);
+	}
 
-		int firstItem = stack.pop();
-		
-		stack.add(0, firstItem);
+	/**
+	 * Accounts for movements executed without the movement log. Undo can 
+	 * not go past them, since inverting the logged movements before them 
+	 * would lead to a state that never existed.
+	 * @param recorded number of movements to count at the current level
+	 */
+	private void skipLog(int recorded) {
+		unlogged += countStep * recorded;
+		undoFloor = movements.size();
+	}
+	
+	private void requireFullRecording() {
+		if (!logging)
+			throw new IllegalStateException("Undo needs the FULL recording level, not " + recording);
 	}
 	
-	private void rotateDown(Stack<Integer> stack) {
+	private void notify(Movements movement, boolean changed) {
+		listener.onMovement(this, movement, changed);
+	}
+	
+	private boolean swap(IntRing stack) {
+		
+		if (hasAtMostOneItemOnStack(stack)) return false;
 		
-		if (hasAtMostOneItemOnStack(stack)) return;
+		stack.swapTop();
+		return true;
+	}
+	
+	private boolean rotateUp(IntRing stack) {
+
+		if (hasAtMostOneItemOnStack(stack)) return false;
+
+		stack.rotateUp();
+		return true;
+	}
+	
+	private boolean rotateDown(IntRing stack) {
 		
-		int lastItemIndex = 0;
-		int lastItem = stack.get(lastItemIndex);
+		if (hasAtMostOneItemOnStack(stack)) return false;
 		
-		stack.remove(lastItemIndex);
-		stack.push(lastItem);
+		stack.rotateDown();
+		return true;
 	}
 	
 	private static boolean hasAtMostOneItemOnStack(Stack<Integer> stack) {
 		return (stack.size() < 2);
 	}
 	
-	private void popFromPushTo(Stack<Integer> from, Stack<Integer> to) {
-		if (from.size() == 0) return;
+	private static boolean hasAtMostOneItemOnStack(IntRing stack) {
+		return (stack.size() < 2);
+	}
+	
+	private boolean popFromPushTo(IntRing from, IntRing to) {
+		if (from.size() == 0) return false;
 		to.push(from.pop());
+		return true;
+	}
+	
+	private static int checkedBreaks(IntRing stack) {
+		
+		int breaks = stack.breaks();
+		
+		if (DEBUG && breaks != stack.countBreaks())
+			throw new IllegalStateException("Order counter is " + breaks 
+					+ " but a full scan found " + stack.countBreaks());
+		
+		return breaks;
+	}
+	
+	private static long checkedHash(IntRing stack) {
+		
+		long hash = stack.hash();
+		
+		if (DEBUG && hash != stack.computeHash())
+			throw new IllegalStateException("Rolling hash is " + hash 
+					+ " but a full scan found " + stack.computeHash());
+		
+		return hash;
+	}
+	
+	private static int peek(IntRing stack, int depth) {
+		if (depth < 0 || depth >= stack.size())
+			throw new IndexOutOfBoundsException(
+					"Depth: " + depth + ", Size: " + stack.size());
+		return stack.get(depth);
+	}
+	
+	private static int top(IntRing stack) {
+		if (stack.size() == 0) throw new EmptyStackException();
+		return stack.get(0);
+	}
+	
+	private static int bottom(IntRing stack) {
+		if (stack.size() == 0) throw new EmptyStackException();
+		return stack.get(stack.size() - 1);
+	}
+	
+	private IntStream stream(IntRing stack) {
+		return IntStream.range(0, stack.size()).map(depth -> valueOf(stack.get(depth)));
+	}
+	
+	private void forEach(IntRing stack, IntConsumer action) {
+		for (int depth = 0; depth < stack.size(); depth++) {
+			action.accept(valueOf(stack.get(depth)));
+		}
+	}
+	
+	private Stack<Integer> copyOf(IntRing stack) {
+		
+		var copy = new Stack<Integer>();
+		copy.ensureCapacity(stack.size());
+		
+		for (int depth = stack.size() - 1; depth >= 0; depth--) {
+			copy.push(valueOf(stack.get(depth)));
+		}
+		
+		return copy;
+	}
+	
+	private int valueOf(int item) {
+		return (sortedValues == null ? item : sortedValues[item]);
+	}
+	
+	private int[] requireSortedValues() {
+		if (sortedValues == null)
+			throw new IllegalStateException("PushSwap is not rank normalized");
+		return sortedValues;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package br.dev.gawbsouza.pushswap.core;
+
+/**
+ * Enum of the levels at which {@code PushSwap} records executed movements.
+ */
+public enum Recording {
+
+	/**
+	 * Every movement is appended to the movement log, so the solution can be
+	 * read back and undone.
+	 */
+	FULL,
+
+	/**
+	 * Movements are only counted, for callers that need the cost of a 
+	 * solution but not the solution itself.
+	 */
+	COUNT,
+
+	/**
+	 * Movements are neither logged nor counted, for pure simulation where 
+	 * only the final state matters.
+	 */
+	NONE
+}
@@ -0,0 +1,146 @@
+package br.dev.gawbsouza.pushswap.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import br.dev.gawbsouza.pushswap.core.MovementLog;
+import br.dev.gawbsouza.pushswap.core.Movements;
+
+/**
+ * Compact binary format for storing and exchanging solutions.<br><br>
+ * 
+ * A 12-byte little-endian header holds the magic number {@code "PSMV"}, 
+ * the format version and the number of movements. It is followed by the 
+ * movements packed two per byte, 4 bits each with the first one in the low
+ * nibble, just like {@code MovementLog} keeps them in memory. A movement 
+ * takes half a byte, against about three and a half bytes in the text 
+ * format, so files are roughly 6 to 7 times smaller.
+ */
+public final class BinaryMoves {
+
+	static final int MAGIC = 0x564D5350;
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 12;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int MOVEMENT_MASK = 0xF;
+
+	private BinaryMoves() {
+	}
+
+	/**
+	 * Writes movements in the binary format.
+	 * @param movements to be written
+	 * @param channel where the header and the movements are written
+	 * @throws IOException if the channel can not be written
+	 */
+	public static void write(MovementLog movements, WritableByteChannel channel) throws IOException {
+
+		var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(movements.size());
+
+		int pending = -1;
+
+		for (Movements movement : movements) {
+			if (pending < 0) {
+				pending = movement.ordinal();
+				continue;
+			}
+			if (!buffer.hasRemaining()) drain(buffer, channel);
+			buffer.put((byte) (pending | (movement.ordinal() << 4)));
+			pending = -1;
+		}
+
+		if (pending >= 0) {
+			if (!buffer.hasRemaining()) drain(buffer, channel);
+			buffer.put((byte) pending);
+		}
+
+		drain(buffer, channel);
+	}
+
+	/**
+	 * Reads movements written in the binary format.
+	 * @param channel with the header and the movements
+	 * @return log with the movements, in order
+	 * @throws IOException if the channel can not be read, or it ends before
+	 * the last movement
+	 * @throws IllegalArgumentException if the header or a movement is not 
+	 * valid
+	 */
+	public static MovementLog read(ReadableByteChannel channel) throws IOException {
+
+		var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.limit(0);
+		fill(buffer, channel, HEADER_BYTES);
+
+		if (buffer.getInt() != MAGIC)
+			throw new IllegalArgumentException("Not a binary movements file");
+
+		int version = buffer.getInt();
+		if (version != VERSION)
+			throw new IllegalArgumentException("Unsupported binary movements version: " + version);
+
+		int count = buffer.getInt();
+		if (count < 0)
+			throw new IllegalArgumentException("Invalid movement count: " + count);
+
+		var log = new MovementLog();
+		var codes = new byte[BUFFER_SIZE * 2];
+		int left = count;
+
+		while (left > 0) {
+
+			int bytes = Math.min((left + 1) / 2, BUFFER_SIZE);
+			if (buffer.remaining() < bytes) {
+				buffer.compact();
+				buffer.flip();
+				fill(buffer, channel, bytes);
+			}
+
+			int decoded = Math.min(left, bytes * 2);
+			for (int i = 0; i < decoded; i += 2) {
+				int pair = buffer.get();
+				codes[i] = (byte) (pair & MOVEMENT_MASK);
+				codes[i + 1] = (byte) ((pair >>> 4) & MOVEMENT_MASK);
+			}
+
+			log.addAll(codes, 0, decoded);
+			left -= decoded;
+		}
+
+		return log;
+	}
+
+	private static void drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		buffer.clear();
+	}
+
+	/**
+	 * Reads from the channel until the buffer, whose contents start at its 
+	 * position, has at least {@code bytes} bytes remaining.
+	 */
+	private static void fill(ByteBuffer buffer, ReadableByteChannel channel, int bytes) 
+			throws IOException {
+
+		int start = buffer.position();
+		buffer.position(buffer.limit()).limit(buffer.capacity());
+
+		while (buffer.position() - start < bytes) {
+			if (channel.read(buffer) == -1)
+				throw new IOException("Binary movements file ended too early");
+		}
+
+		buffer.limit(buffer.position()).position(start);
+	}
+}
@@ -0,0 +1,92 @@
+package br.dev.gawbsouza.pushswap.io;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+
+/**
+ * Writer of movements as text, one per line, to a 
+ * {@code WritableByteChannel}.<br><br>
+ * 
+ * The movements are encoded from their cached bytes into a single reusable
+ * direct buffer, which is written to the channel whenever it fills up, so 
+ * writing a solution of any length allocates nothing per movement. The 
+ * channel is not closed by the writer.
+ */
+public final class MoveWriter implements Flushable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer;
+
+	/**
+	 * MoveWriter constructor with a 64KiB buffer.
+	 * @param channel where the movements are written
+	 */
+	public MoveWriter(WritableByteChannel channel) {
+		this(channel, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * MoveWriter constructor.
+	 * @param channel where the movements are written
+	 * @param bufferSize size of the buffer, at least enough for one movement
+	 * and its line break
+	 * @throws IllegalArgumentException if the buffer is too small
+	 */
+	public MoveWriter(WritableByteChannel channel, int bufferSize) {
+
+		if (bufferSize <= Movements.MAX_LENGTH)
+			throw new IllegalArgumentException("Buffer too small: " + bufferSize);
+
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	/**
+	 * Writes a movement followed by a line break.
+	 * @param movement to be written
+	 * @throws IOException if the channel can not be written
+	 */
+	public void write(Movements movement) throws IOException {
+		if (buffer.remaining() <= Movements.MAX_LENGTH) drain();
+		movement.encodeTo(buffer);
+		buffer.put((byte) '\n');
+	}
+
+	/**
+	 * Writes every movement of a sequence, such as a {@code MovementLog} or
+	 * {@code PushSwap.getMovements()}, one per line.
+	 * @param movements to be written
+	 * @throws IOException if the channel can not be written
+	 */
+	public void write(Iterable<Movements> movements) throws IOException {
+		for (Movements movement : movements) {
+			write(movement);
+		}
+	}
+
+	/**
+	 * Writes every buffered movement to the channel.
+	 * @throws IOException if the channel can not be written
+	 */
+	@Override
+	public void flush() throws IOException {
+		drain();
+	}
+
+	private void drain() throws IOException {
+
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		buffer.clear();
+	}
+}
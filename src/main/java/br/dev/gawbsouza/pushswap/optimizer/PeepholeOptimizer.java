@@ -0,0 +1,261 @@
+package br.dev.gawbsouza.pushswap.optimizer;
+
+import java.util.function.Consumer;
+
+import br.dev.gawbsouza.pushswap.core.MovementLog;
+import br.dev.gawbsouza.pushswap.core.Movements;
+
+/**
+ * Streaming peephole optimizer for movement sequences.<br><br>
+ * 
+ * The optimizer simulates only the sizes of both stacks, which is enough to
+ * drop no-op movements (swaps, rotations and pushes on stacks too small to 
+ * change) and to group the remaining movements in blocks of the same kind:
+ * <ul>
+ * <li>rotations keep the net rotation of each stack modulo its size and are
+ * emitted with the cheapest mix of RR/RRR/RA/RB/RRA/RRB, so opposite 
+ * rotations cancel, RA+RB become RR and long RA runs become RRA runs;</li>
+ * <li>swaps keep the parity of each stack, so SA+SA cancel and SA+SB 
+ * become SS;</li>
+ * <li>pushes keep the net count, so PB+PA and PA+PB cancel.</li>
+ * </ul>
+ * Blocks are held in a bounded window before being emitted. When a block 
+ * cancels out completely, the previous block is reopened, so patterns like
+ * {@code pb ra rra pa} vanish entirely. Each movement is handled in O(1), 
+ * so the optimizer runs in linear time with constant memory and keeps the 
+ * final state identical.
+ */
+public final class PeepholeOptimizer implements Consumer<Movements> {
+
+	private static final int WINDOW = 64;
+
+	private static final int ROTATE = 0;
+	private static final int SWAP = 1;
+	private static final int PUSH = 2;
+
+	private final Consumer<Movements> sink;
+
+	private final int[] kinds = new int[WINDOW];
+	private final int[] netA = new int[WINDOW];
+	private final int[] netB = new int[WINDOW];
+	private final int[] blockSizeA = new int[WINDOW];
+	private final int[] blockSizeB = new int[WINDOW];
+	private int first;
+	private int blocks;
+
+	private int sizeA;
+	private int sizeB;
+	private long inputMoves;
+	private long outputMoves;
+
+	/**
+	 * PeepholeOptimizer constructor.
+	 * @param sizeA initial size of stack A
+	 * @param sizeB initial size of stack B
+	 * @param sink receives the optimized movements, in order
+	 */
+	public PeepholeOptimizer(int sizeA, int sizeB, Consumer<Movements> sink) {
+		this.sizeA = sizeA;
+		this.sizeB = sizeB;
+		this.sink = sink;
+	}
+
+	/**
+	 * Optimizes a whole movement sequence.
+	 * @param sizeA initial size of stack A
+	 * @param sizeB initial size of stack B
+	 * @param movements sequence to be optimized
+	 * @return the optimized sequence
+	 */
+	public static MovementLog optimize(int sizeA, int sizeB, Iterable<Movements> movements) {
+
+		var optimized = new MovementLog();
+		var optimizer = new PeepholeOptimizer(sizeA, sizeB, optimized::add);
+
+		for (Movements movement : movements) {
+			optimizer.accept(movement);
+		}
+
+		optimizer.finish();
+		return optimized;
+	}
+
+	/**
+	 * Feeds the next movement of the sequence.
+	 * @param movement next movement
+	 */
+	@Override
+	public void accept(Movements movement) {
+
+		inputMoves++;
+
+		boolean canChangeA = sizeA > 1;
+		boolean canChangeB = sizeB > 1;
+
+		switch (movement) {
+		case SA: if (canChangeA) swap(1, 0); break;
+		case SB: if (canChangeB) swap(0, 1); break;
+		case SS: if (canChangeA || canChangeB) swap(canChangeA ? 1 : 0, canChangeB ? 1 : 0); break;
+		case PA: if (sizeB > 0) push(1); break;
+		case PB: if (sizeA > 0) push(-1); break;
+		case RA: if (canChangeA) rotate(1, 0); break;
+		case RB: if (canChangeB) rotate(0, 1); break;
+		case RR: if (canChangeA || canChangeB) rotate(canChangeA ? 1 : 0, canChangeB ? 1 : 0); break;
+		case RRA: if (canChangeA) rotate(-1, 0); break;
+		case RRB: if (canChangeB) rotate(0, -1); break;
+		case RRR: if (canChangeA || canChangeB) rotate(canChangeA ? -1 : 0, canChangeB ? -1 : 0); break;
+		}
+	}
+
+	/**
+	 * Emits every pending block. Must be called after the last movement.
+	 */
+	public void finish() {
+		while (blocks > 0) {
+			emitOldest();
+		}
+	}
+
+	/**
+	 * Gets the number of movements fed to the optimizer.
+	 * @return number of input movements
+	 */
+	public long getInputMoves() {
+		return inputMoves;
+	}
+
+	/**
+	 * Gets the number of movements emitted so far.
+	 * @return number of output movements
+	 */
+	public long getOutputMoves() {
+		return outputMoves;
+	}
+
+	/**
+	 * Gets the number of movements saved, once {@code finish} was called.
+	 * @return input movements minus output movements
+	 */
+	public long getSavedMoves() {
+		return inputMoves - outputMoves;
+	}
+
+	private void swap(int parityA, int parityB) {
+
+		int block = openBlock(SWAP);
+
+		netA[block] ^= parityA;
+		netB[block] ^= parityB;
+
+		closeIfCancelled(block);
+	}
+
+	private void push(int delta) {
+
+		int block = openBlock(PUSH);
+
+		netA[block] += delta;
+		sizeA += delta;
+		sizeB -= delta;
+
+		closeIfCancelled(block);
+	}
+
+	private void rotate(int deltaA, int deltaB) {
+
+		int block = openBlock(ROTATE);
+
+		netA[block] = Math.floorMod(netA[block] + deltaA, Math.max(sizeA, 1));
+		netB[block] = Math.floorMod(netB[block] + deltaB, Math.max(sizeB, 1));
+
+		closeIfCancelled(block);
+	}
+
+	private int openBlock(int kind) {
+
+		if (blocks > 0) {
+			int last = slot(blocks - 1);
+			if (kinds[last] == kind) return last;
+		}
+
+		if (blocks == WINDOW) emitOldest();
+
+		int block = slot(blocks++);
+		kinds[block] = kind;
+		netA[block] = 0;
+		netB[block] = 0;
+		blockSizeA[block] = sizeA;
+		blockSizeB[block] = sizeB;
+		return block;
+	}
+
+	private void closeIfCancelled(int block) {
+		if (netA[block] == 0 && netB[block] == 0) blocks--;
+	}
+
+	private int slot(int index) {
+		return (first + index) % WINDOW;
+	}
+
+	private void emitOldest() {
+
+		int block = first;
+		first = (first + 1) % WINDOW;
+		blocks--;
+
+		switch (kinds[block]) {
+		case SWAP:
+			emitSwaps(netA[block] != 0, netB[block] != 0);
+			break;
+		case PUSH:
+			emit(netA[block] > 0 ? Movements.PA : Movements.PB, Math.abs(netA[block]));
+			break;
+		default:
+			emitRotations(netA[block], blockSizeA[block], netB[block], blockSizeB[block]);
+			break;
+		}
+	}
+
+	private void emitSwaps(boolean swapA, boolean swapB) {
+		if (swapA && swapB) emit(Movements.SS, 1);
+		else if (swapA) emit(Movements.SA, 1);
+		else if (swapB) emit(Movements.SB, 1);
+	}
+
+	private void emitRotations(int upA, int sizeA, int upB, int sizeB) {
+
+		int downA = (upA == 0 ? 0 : sizeA - upA);
+		int downB = (upB == 0 ? 0 : sizeB - upB);
+
+		int bothUp = Math.max(upA, upB);
+		int bothDown = Math.max(downA, downB);
+		int upDown = upA + downB;
+		int downUp = downA + upB;
+		int best = Math.min(Math.min(bothUp, bothDown), Math.min(upDown, downUp));
+
+		if (best == bothUp) {
+			int both = Math.min(upA, upB);
+			emit(Movements.RR, both);
+			emit(Movements.RA, upA - both);
+			emit(Movements.RB, upB - both);
+		} else if (best == bothDown) {
+			int both = Math.min(downA, downB);
+			emit(Movements.RRR, both);
+			emit(Movements.RRA, downA - both);
+			emit(Movements.RRB, downB - both);
+		} else if (best == upDown) {
+			emit(Movements.RA, upA);
+			emit(Movements.RRB, downB);
+		} else {
+			emit(Movements.RRA, downA);
+			emit(Movements.RB, upB);
+		}
+	}
+
+	private void emit(Movements movement, int times) {
+		for (int i = 0; i < times; i++) {
+			sink.accept(movement);
+		}
+		outputMoves += times;
+	}
+}
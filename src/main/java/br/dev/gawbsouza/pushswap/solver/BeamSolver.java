@@ -0,0 +1,357 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.core.Recording;
+
+/**
+ * Beam search insertion solver.<br><br>
+ * 
+ * The two lower thirds of the ranks are pushed to stack B first, the lowest
+ * one rotated to the bottom of B, then the upper third but three items, and
+ * the three left on stack A are sorted. Then, instead of always inserting 
+ * the cheapest item of stack B like {@code GreedySolver}, the solver keeps 
+ * the best {@code width} partial states. Each step expands every state with
+ * its {@code branching} cheapest insertions (the rotations to bring an item
+ * and its slot on A to the top, followed by PA) and keeps the 
+ * {@code width} children with the fewest movements. Children that reach 
+ * the same stacks through different insertion orders are deduplicated by 
+ * {@code stateHash}, confirmed with {@code stateEquals}. Once stack B is 
+ * empty, the state with the fewest movements including the final rotation
+ * of stack A wins.<br><br>
+ * 
+ * Computing the insertion costs of the beam states is the expensive part 
+ * of a step, so the states are expanded in parallel on a 
+ * {@code ForkJoinPool}. Only the selected children are built, each one as 
+ * an O(1) {@code fork} of its parent. Each step costs 
+ * O(width * n log n), so wider beams trade CPU time for fewer movements.
+ * <br><br>
+ * 
+ * Inputs small enough for the bundled {@code OptimalTable} are solved with 
+ * their shortest solution instead.
+ */
+public final class BeamSolver implements Solver {
+
+	private static final int ITEMS_SORTED_ON_A = 3;
+	private static final int DEFAULT_BRANCHING = 4;
+
+	private final ForkJoinPool pool;
+	private final int width;
+	private final int branching;
+
+	/**
+	 * BeamSolver constructor that runs on the common pool, expanding each 
+	 * state with its 4 cheapest insertions.
+	 * @param width number of partial states kept at each step
+	 */
+	public BeamSolver(int width) {
+		this(ForkJoinPool.commonPool(), width, DEFAULT_BRANCHING);
+	}
+
+	/**
+	 * BeamSolver constructor.
+	 * @param pool where the beam states are expanded
+	 * @param width number of partial states kept at each step
+	 * @param branching number of insertions expanded from each state
+	 * @throws IllegalArgumentException if width or branching is not 
+	 * positive
+	 */
+	public BeamSolver(ForkJoinPool pool, int width, int branching) {
+
+		if (width < 1)
+			throw new IllegalArgumentException("Beam width must be positive: " + width);
+		if (branching < 1)
+			throw new IllegalArgumentException("Beam branching must be positive: " + branching);
+
+		this.pool = pool;
+		this.width = width;
+		this.branching = branching;
+	}
+
+	/**
+	 * Gets the number of partial states kept at each step.
+	 * @return beam width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the number of cheapest insertions expanded from each state.
+	 * @return beam branching
+	 */
+	public int getBranching() {
+		return branching;
+	}
+
+	/**
+	 * Solves a rank normalized game with stack B empty.
+	 * @param game to be solved
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 */
+	@Override
+	public SolverStats solve(PushSwap game) {
+		return solve(game, Cancellation.NEVER);
+	}
+
+	/**
+	 * Solves a rank normalized game with stack B empty, polling the 
+	 * cancellation check before each step with the movements of the best 
+	 * state of the beam.
+	 * @param game to be solved
+	 * @param cancellation check polled with the movements executed so far
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 * @throws CancellationException if the check asked the solver to stop
+	 */
+	@Override
+	public SolverStats solve(PushSwap game, Cancellation cancellation) {
+
+		if (!game.isNormalized())
+			throw new IllegalArgumentException("BeamSolver needs a rank normalized game");
+		if (game.sizeB() != 0)
+			throw new IllegalArgumentException("BeamSolver needs stack B empty");
+
+		long start = System.nanoTime();
+		int initialMoves = game.getMovementCount();
+
+		var table = OptimalTable.bundled();
+		if (table.contains(game)) {
+			table.solve(game);
+		} else if (!game.isSolved()) {
+
+			var root = game.fork();
+			root.setRecording(Recording.FULL);
+			int logged = root.getMovements().size();
+			game.startPhase("push");
+			pushAllButThree(root);
+			GreedySolver.sortThree(root);
+			game.endPhase("push");
+
+			game.startPhase("search");
+			var best = search(new Node(root), initialMoves, cancellation);
+			Rotations.toTopOfA(best.game, best.smallestDepth);
+			game.endPhase("search");
+
+			var solution = best.game.getMovements();
+			var program = solution.subList(logged, solution.size()).toArray(new Movements[0]);
+			game.apply(program, 0, program.length);
+		}
+
+		int moves = game.getMovementCount() - initialMoves;
+		return new SolverStats(getName(), moves, System.nanoTime() - start);
+	}
+
+	/**
+	 * Pushes the two lower thirds of the ranks to stack B in a first pass, 
+	 * rotating the lowest third to the bottom of B, then the upper third but
+	 * three items. Stack B ends up roughly split in ranges, which makes the
+	 * insertions much cheaper than pushing the items in their input order.
+	 */
+	private static void pushAllButThree(PushSwap game) {
+
+		int size = game.sizeA();
+
+		for (int i = 0; i < size && game.sizeA() > ITEMS_SORTED_ON_A; i++) {
+			int rank = game.peekRankA(0);
+			if (rank < 2 * size / 3) {
+				game.pb();
+				if (rank < size / 3 && game.sizeB() > 1) game.rb();
+			} else {
+				game.ra();
+			}
+		}
+
+		while (game.sizeA() > ITEMS_SORTED_ON_A) {
+			game.pb();
+		}
+	}
+
+	private Node search(Node root, int initialMoves, Cancellation cancellation) {
+
+		List<Node> beam = List.of(root);
+
+		while (beam.get(0).game.sizeB() > 0) {
+
+			if (cancellation.shouldStop(beam.get(0).moves() - initialMoves))
+				throw new CancellationException(getName() + " cancelled");
+
+			var parents = beam;
+			List<Candidate> candidates = pool.submit(() -> parents.parallelStream()
+					.flatMap(parent -> expand(parent).stream())
+					.collect(Collectors.toList())).join();
+
+			candidates.sort(Comparator.comparingInt(candidate -> candidate.score));
+			beam = select(candidates);
+		}
+
+		return beam.stream().min(Comparator.comparingInt(Node::finalMoves)).get();
+	}
+
+	/**
+	 * Builds the children of the best candidates, in score order, skipping 
+	 * the ones whose stacks were already reached, until the beam is full.
+	 */
+	private List<Node> select(List<Candidate> candidates) {
+
+		var beam = new ArrayList<Node>(width);
+		var seen = new HashMap<Long, List<Node>>();
+
+		for (var candidate : candidates) {
+
+			if (beam.size() == width) break;
+
+			var child = candidate.build();
+			var sameHash = seen.computeIfAbsent(child.game.stateHash(), hash -> new ArrayList<>(1));
+
+			if (sameHash.stream().noneMatch(node -> node.game.stateEquals(child.game))) {
+				sameHash.add(child);
+				beam.add(child);
+			}
+		}
+
+		return beam;
+	}
+
+	/**
+	 * Gets the cheapest insertions of a state. The slot of each item of 
+	 * stack B is found with a Fenwick tree over the ranks on stack A, as in
+	 * {@code GreedySolver}.
+	 */
+	private List<Candidate> expand(Node parent) {
+
+		var game = parent.game;
+		int sizeA = game.sizeA();
+		int sizeB = game.sizeB();
+		int ranks = sizeA + sizeB;
+
+		var ranksOnA = new FenwickTree(ranks);
+		var depthOnA = new int[ranks];
+
+		for (int depth = 0; depth < sizeA; depth++) {
+			int rank = game.peekRankA(depth);
+			ranksOnA.add(rank, 1);
+			depthOnA[rank] = depth;
+		}
+
+		int count = Math.min(branching, sizeB);
+		var cheapest = new Candidate[count];
+		int found = 0;
+
+		for (int depthB = 0; depthB < sizeB; depthB++) {
+
+			int rank = game.peekRankB(depthB);
+			int depthA = depthOnA[ranksOnA.successor(rank)];
+			int cost = Rotations.cost(depthA, sizeA, depthB, sizeB);
+
+			if (found == count && cost >= cheapest[count - 1].cost) continue;
+
+			int slot = (found < count ? found++ : count - 1);
+			while (slot > 0 && cheapest[slot - 1].cost > cost) {
+				cheapest[slot] = cheapest[slot - 1];
+				slot--;
+			}
+			cheapest[slot] = new Candidate(parent, depthA, depthB, rank, cost);
+		}
+
+		return List.of(cheapest);
+	}
+
+	/**
+	 * Partial state of the beam, along with the depth and rank of the 
+	 * smallest item of stack A.
+	 */
+	private static final class Node {
+
+		private final PushSwap game;
+		private final int smallestDepth;
+		private final int smallestRank;
+
+		private Node(PushSwap game) {
+
+			this.game = game;
+
+			int depth = 0;
+			for (int i = 1; i < game.sizeA(); i++) {
+				if (game.peekRankA(i) < game.peekRankA(depth)) depth = i;
+			}
+
+			this.smallestDepth = depth;
+			this.smallestRank = game.peekRankA(depth);
+		}
+
+		private Node(PushSwap game, int smallestDepth, int smallestRank) {
+			this.game = game;
+			this.smallestDepth = smallestDepth;
+			this.smallestRank = smallestRank;
+		}
+
+		private int moves() {
+			return game.getMovementCount();
+		}
+
+		/**
+		 * Gets the movements of the whole solution once stack B is empty,
+		 * including the final rotation of stack A.
+		 */
+		private int finalMoves() {
+			return moves() + Math.min(smallestDepth, game.sizeA() - smallestDepth);
+		}
+	}
+
+	/**
+	 * Insertion of the item at {@code depthB} in the slot at {@code depthA},
+	 * scored without executing it. Bringing the slot to the top shifts every
+	 * depth of stack A by the same amount in either direction, so the depth
+	 * of the smallest item after the insertion is known in O(1) and the 
+	 * final rotation of each state never needs a scan.
+	 */
+	private static final class Candidate {
+
+		private final Node parent;
+		private final int depthA;
+		private final int depthB;
+		private final int cost;
+		private final int smallestDepth;
+		private final int smallestRank;
+		private final int score;
+
+		private Candidate(Node parent, int depthA, int depthB, int rank, int cost) {
+
+			this.parent = parent;
+			this.depthA = depthA;
+			this.depthB = depthB;
+			this.cost = cost;
+
+			int sizeA = parent.game.sizeA();
+
+			if (rank < parent.smallestRank) {
+				smallestDepth = 0;
+				smallestRank = rank;
+			} else {
+				smallestDepth = (parent.smallestDepth - depthA + sizeA) % sizeA + 1;
+				smallestRank = parent.smallestRank;
+			}
+
+			score = parent.moves() + cost + 1;
+		}
+
+		private Node build() {
+			var child = parent.game.fork();
+			Rotations.toTop(child, depthA, depthB);
+			child.pa();
+			return new Node(child, smallestDepth, smallestRank);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+/**
+ * Cooperative cancellation check polled by a {@code Solver} while it 
+ * runs.<br><br>
+ * 
+ * Solvers call it at cheap checkpoints with the number of movements they 
+ * executed so far, so a caller can stop a solver as soon as it can no 
+ * longer produce a shorter solution than one already known, or once a time
+ * budget is over.
+ */
+@FunctionalInterface
+public interface Cancellation {
+
+	/**
+	 * Cancellation that never stops the solver.
+	 */
+	Cancellation NEVER = moves -> false;
+
+	/**
+	 * Checks whether the solver should stop.
+	 * @param moves number of movements executed by the solver so far
+	 * @return true if the solver should stop
+	 */
+	boolean shouldStop(int moves);
+}
@@ -0,0 +1,220 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.util.concurrent.CancellationException;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Chunk (bucket) solver.<br><br>
+ * 
+ * The ranks are split in {@code chunks} consecutive ranges. For each range, 
+ * from the smallest one, the nearest item of stack A in that range is 
+ * rotated to the top and pushed to stack B. Items below the pivot of their 
+ * range are also rotated to the bottom of stack B, so each range ends up 
+ * roughly split around its pivot. Then the largest item left on stack B is
+ * repeatedly rotated to the top and pushed back to stack A; when the second
+ * largest one is closer, it is pushed first and both are swapped on A.
+ * <br><br>
+ * 
+ * The number of movements is very sensitive to the number of chunks and to
+ * the pivot, and the best setting changes with the input size, so both are 
+ * parameters that {@code ParameterSweep} can tune.
+ */
+public final class ChunkSolver implements Solver {
+
+	private final int chunks;
+	private final int pivotPercent;
+
+	/**
+	 * ChunkSolver constructor.
+	 * @param chunks number of rank ranges, at least one
+	 * @param pivotPercent position of the pivot inside each range, from 
+	 * {@code 0} (no item is rotated on B) to {@code 100} (every item is)
+	 * @throws IllegalArgumentException if a parameter is out of range
+	 */
+	public ChunkSolver(int chunks, int pivotPercent) {
+
+		if (chunks < 1)
+			throw new IllegalArgumentException("Chunk count must be positive: " + chunks);
+		if (pivotPercent < 0 || pivotPercent > 100)
+			throw new IllegalArgumentException("Pivot must be between 0 and 100: " + pivotPercent);
+
+		this.chunks = chunks;
+		this.pivotPercent = pivotPercent;
+	}
+
+	/**
+	 * Creates a ChunkSolver from a parameter vector, as used by 
+	 * {@code ParameterSweep} and {@code TuningProfile}.
+	 * @param parameters chunk count and pivot percent, in this order
+	 * @return the solver
+	 * @throws IllegalArgumentException if the vector does not have two valid
+	 * parameters
+	 */
+	public static ChunkSolver of(int... parameters) {
+
+		if (parameters.length != 2)
+			throw new IllegalArgumentException("ChunkSolver takes 2 parameters: " + parameters.length);
+
+		return new ChunkSolver(parameters[0], parameters[1]);
+	}
+
+	/**
+	 * Gets the number of consecutive rank ranges.
+	 * @return number of rank ranges
+	 */
+	public int getChunks() {
+		return chunks;
+	}
+
+	/**
+	 * Gets the position of the pivot inside each rank range.
+	 * @return pivot position, from 0 to 100 percent of the range
+	 */
+	public int getPivotPercent() {
+		return pivotPercent;
+	}
+
+	@Override
+	public String getName() {
+		return "ChunkSolver(" + chunks + ", " + pivotPercent + "%)";
+	}
+
+	/**
+	 * Solves a rank normalized game with stack B empty.
+	 * @param game to be solved
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 */
+	@Override
+	public SolverStats solve(PushSwap game) {
+		return solve(game, Cancellation.NEVER);
+	}
+
+	/**
+	 * Solves a rank normalized game with stack B empty, polling the 
+	 * cancellation check before each push.
+	 * @param game to be solved
+	 * @param cancellation check polled with the movements executed so far
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 * @throws CancellationException if the check asked the solver to stop
+	 */
+	@Override
+	public SolverStats solve(PushSwap game, Cancellation cancellation) {
+
+		if (!game.isNormalized())
+			throw new IllegalArgumentException("ChunkSolver needs a rank normalized game");
+		if (game.sizeB() != 0)
+			throw new IllegalArgumentException("ChunkSolver needs stack B empty");
+
+		long start = System.nanoTime();
+		int initialMoves = game.getMovementCount();
+
+		if (!game.isSolved()) {
+			int size = game.sizeA();
+			game.startPhase("push");
+			pushChunks(game, size, initialMoves, cancellation);
+			game.endPhase("push");
+
+			game.startPhase("pull");
+			pullMaxima(game, size, initialMoves, cancellation);
+			game.endPhase("pull");
+		}
+
+		int moves = game.getMovementCount() - initialMoves;
+		return new SolverStats(getName(), moves, System.nanoTime() - start);
+	}
+
+	private void pushChunks(PushSwap game, int size, int initialMoves, 
+			Cancellation cancellation) {
+
+		int chunkSize = (size + chunks - 1) / chunks;
+
+		for (int low = 0; low < size; low += chunkSize) {
+
+			int high = Math.min(size, low + chunkSize);
+			int pivot = low + (high - low) * pivotPercent / 100;
+
+			for (int left = high - low; left > 0; left--) {
+
+				checkpoint(game, initialMoves, cancellation);
+				Rotations.toTopOfA(game, nearestInRange(game, low, high));
+
+				int rank = game.peekRankA(0);
+				game.pb();
+
+				if (rank < pivot && game.sizeB() > 1) game.rb();
+			}
+		}
+	}
+
+	private void pullMaxima(PushSwap game, int size, int initialMoves, 
+			Cancellation cancellation) {
+
+		int largest = size - 1;
+
+		while (game.sizeB() > 0) {
+
+			checkpoint(game, initialMoves, cancellation);
+
+			int depth = depthOnB(game, largest);
+
+			if (game.sizeB() > 1) {
+				int secondDepth = depthOnB(game, largest - 1);
+				if (distance(game, secondDepth) < distance(game, depth)) {
+					Rotations.toTop(game, 0, secondDepth);
+					game.pa();
+					Rotations.toTop(game, 0, depthOnB(game, largest));
+					game.pa();
+					game.sa();
+					largest -= 2;
+					continue;
+				}
+			}
+
+			Rotations.toTop(game, 0, depth);
+			game.pa();
+			largest--;
+		}
+	}
+
+	private void checkpoint(PushSwap game, int initialMoves, Cancellation cancellation) {
+		if (cancellation.shouldStop(game.getMovementCount() - initialMoves))
+			throw new CancellationException(getName() + " cancelled");
+	}
+
+	/**
+	 * Gets the depth of the item of stack A in a rank range that is the 
+	 * fewest rotations away from the top, scanning from both ends.
+	 */
+	private static int nearestInRange(PushSwap game, int low, int high) {
+
+		int sizeA = game.sizeA();
+
+		for (int away = 0; away <= sizeA / 2; away++) {
+			int rank = game.peekRankA(away);
+			if (rank >= low && rank < high) return away;
+			int bottom = sizeA - 1 - away;
+			rank = game.peekRankA(bottom);
+			if (rank >= low && rank < high) return bottom;
+		}
+
+		throw new IllegalStateException("No item of ranks " + low + ".." + high + " on stack A");
+	}
+
+	private static int depthOnB(PushSwap game, int rank) {
+
+		for (int depth = 0; depth < game.sizeB(); depth++) {
+			if (game.peekRankB(depth) == rank) return depth;
+		}
+
+		throw new IllegalStateException("Rank " + rank + " is not on stack B");
+	}
+
+	private static int distance(PushSwap game, int depthB) {
+		return Math.min(depthB, game.sizeB() - depthB);
+	}
+}
@@ -0,0 +1,97 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+/**
+ * Fenwick (binary indexed) tree of counters over a dense index range.<br><br>
+ * 
+ * Used as an order-statistic set of ranks: adding, counting the ranks up to
+ * a given one and finding the k-th smallest rank are all O(log n).
+ */
+final class FenwickTree {
+
+	private final int[] tree;
+	private final int highestBit;
+	private int total;
+
+	/**
+	 * FenwickTree constructor.
+	 * @param size number of indexes, from {@code 0} to {@code size - 1}
+	 */
+	FenwickTree(int size) {
+		tree = new int[size + 1];
+		highestBit = (size == 0 ? 0 : Integer.highestOneBit(size));
+	}
+
+	/**
+	 * Adds a delta to the counter of an index.
+	 * @param index to be updated
+	 * @param delta to be added
+	 */
+	void add(int index, int delta) {
+		total += delta;
+		for (int i = index + 1; i < tree.length; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+
+	/**
+	 * Gets the sum of the counters from index zero up to a given index.
+	 * @param index last index included in the sum
+	 * @return sum of counters in {@code [0, index]}
+	 */
+	int prefixSum(int index) {
+		int sum = 0;
+		for (int i = index + 1; i > 0; i -= i & -i) {
+			sum += tree[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * Gets the sum of every counter.
+	 * @return total sum
+	 */
+	int total() {
+		return total;
+	}
+
+	/**
+	 * Finds the smallest index whose prefix sum reaches {@code k}.
+	 * @param k one-based order, from {@code 1} to {@code total()}
+	 * @return index of the k-th counted item
+	 */
+	int findKth(int k) {
+		int position = 0;
+		for (int step = highestBit; step > 0; step >>= 1) {
+			int next = position + step;
+			if (next < tree.length && tree[next] < k) {
+				position = next;
+				k -= tree[next];
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * Finds the smallest counted index greater than a given index, wrapping
+	 * around to the smallest counted index when there is none.
+	 * @param index reference index
+	 * @return successor index, or -1 if nothing is counted
+	 */
+	int successor(int index) {
+		if (total == 0) return -1;
+		int before = prefixSum(index);
+		return findKth(before == total ? 1 : before + 1);
+	}
+
+	/**
+	 * Finds the largest counted index smaller than a given index, wrapping
+	 * around to the largest counted index when there is none.
+	 * @param index reference index
+	 * @return predecessor index, or -1 if nothing is counted
+	 */
+	int predecessor(int index) {
+		if (total == 0) return -1;
+		int before = (index == 0 ? 0 : prefixSum(index - 1));
+		return findKth(before == 0 ? total : before);
+	}
+}
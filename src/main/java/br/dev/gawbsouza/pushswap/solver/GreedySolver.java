@@ -0,0 +1,199 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.util.concurrent.CancellationException;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Greedy cost-based insertion solver.<br><br>
+ * 
+ * Every item but three is pushed to stack B and the three left on stack A 
+ * are sorted. Then, at each step, the solver computes for every item of 
+ * stack B the number of rotations needed to bring it and its target slot on
+ * stack A to the top (merging RR/RRR when possible) and inserts the cheapest
+ * one. At the end stack A is rotated until the smallest item is on top.
+ * <br><br>
+ * 
+ * The target slot of an item is the smallest rank of stack A greater than 
+ * its own rank, found in O(log n) with a Fenwick tree over the ranks on 
+ * stack A. Each step costs O(n log n), which keeps the solver usable with 
+ * tens of thousands of items.<br><br>
+ * 
+ * Inputs small enough for the bundled {@code OptimalTable} are solved with 
+ * their shortest solution instead.
+ */
+public final class GreedySolver implements Solver {
+
+	private static final int ITEMS_SORTED_ON_A = 3;
+
+	private static final int COST = 0;
+	private static final int DEPTH_A = 1;
+	private static final int DEPTH_B = 2;
+
+	/**
+	 * Solves a rank normalized game with stack B empty.
+	 * @param game to be solved
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 */
+	@Override
+	public SolverStats solve(PushSwap game) {
+		return solve(game, Cancellation.NEVER);
+	}
+
+	/**
+	 * Solves a rank normalized game with stack B empty, polling the 
+	 * cancellation check before each insertion.
+	 * @param game to be solved
+	 * @param cancellation check polled with the movements executed so far
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 * @throws CancellationException if the check asked the solver to stop
+	 */
+	@Override
+	public SolverStats solve(PushSwap game, Cancellation cancellation) {
+
+		if (!game.isNormalized())
+			throw new IllegalArgumentException("GreedySolver needs a rank normalized game");
+		if (game.sizeB() != 0)
+			throw new IllegalArgumentException("GreedySolver needs stack B empty");
+
+		long start = System.nanoTime();
+		int initialMoves = game.getMovementCount();
+
+		var table = OptimalTable.bundled();
+		if (table.contains(game)) {
+			table.solve(game);
+		} else if (!game.isSolved()) {
+			game.startPhase("push");
+			pushAllButThree(game);
+			sortThree(game);
+			game.endPhase("push");
+
+			game.startPhase("insert");
+			insertAll(game, initialMoves, cancellation, getName());
+			game.endPhase("insert");
+
+			game.startPhase("rotate");
+			rotateSmallestToTop(game);
+			game.endPhase("rotate");
+		}
+
+		int moves = game.getMovementCount() - initialMoves;
+		return new SolverStats(getName(), moves, System.nanoTime() - start);
+	}
+
+	private static void pushAllButThree(PushSwap game) {
+		while (game.sizeA() > ITEMS_SORTED_ON_A) {
+			game.pb();
+		}
+	}
+
+	/**
+	 * Sorts up to three items on stack A, using only SA, RA and RRA.
+	 */
+	static void sortThree(PushSwap game) {
+
+		if (game.sizeA() == 2 && game.peekRankA(0) > game.peekRankA(1)) {
+			game.sa();
+			return;
+		}
+
+		if (game.sizeA() != ITEMS_SORTED_ON_A) return;
+
+		int top = game.peekRankA(0);
+		int middle = game.peekRankA(1);
+		int bottom = game.peekRankA(2);
+
+		if (top > middle && top > bottom) {
+			game.ra();
+		} else if (middle > top && middle > bottom) {
+			game.rra();
+		}
+
+		if (game.peekRankA(0) > game.peekRankA(1)) {
+			game.sa();
+		}
+	}
+
+	/**
+	 * Inserts every item of stack B into its slot on stack A, cheapest 
+	 * first. Stack A must be cyclically ordered and stays so.
+	 * @param game being solved
+	 * @param initialMoves movement count when the solver started
+	 * @param cancellation check polled before each insertion
+	 * @param solverName name reported when cancelled
+	 * @throws CancellationException if the check asked the solver to stop
+	 */
+	static void insertAll(PushSwap game, int initialMoves, Cancellation cancellation, 
+			String solverName) {
+
+		int size = game.sizeA() + game.sizeB();
+		var ranksOnA = new FenwickTree(size);
+		var depthOnA = new int[size];
+		var best = new int[3];
+
+		for (int depth = 0; depth < game.sizeA(); depth++) {
+			ranksOnA.add(game.peekRankA(depth), 1);
+		}
+
+		while (game.sizeB() > 0) {
+
+			if (cancellation.shouldStop(game.getMovementCount() - initialMoves))
+				throw new CancellationException(solverName + " cancelled");
+
+			int sizeB = game.sizeB();
+
+			for (int depth = 0; depth < game.sizeA(); depth++) {
+				depthOnA[game.peekRankA(depth)] = depth;
+			}
+
+			best[COST] = Integer.MAX_VALUE;
+
+			// Items k positions away from either end of stack B cost at least
+			// k rotations, so candidates are visited from both ends inwards 
+			// and the search stops once that bound reaches the best cost.
+			for (int away = 0; away <= sizeB / 2 && away < best[COST]; away++) {
+				evaluate(game, ranksOnA, depthOnA, away, best);
+				if (away > 0 && sizeB - away != away)
+					evaluate(game, ranksOnA, depthOnA, sizeB - away, best);
+			}
+
+			Rotations.toTop(game, best[DEPTH_A], best[DEPTH_B]);
+			ranksOnA.add(game.peekRankB(0), 1);
+			game.pa();
+		}
+	}
+
+	private static void evaluate(PushSwap game, FenwickTree ranksOnA, 
+			int[] depthOnA, int depthB, int[] best) {
+
+		int target = ranksOnA.successor(game.peekRankB(depthB));
+		int depthA = depthOnA[target];
+		int cost = Rotations.cost(depthA, game.sizeA(), depthB, game.sizeB());
+
+		if (cost < best[COST]) {
+			best[COST] = cost;
+			best[DEPTH_A] = depthA;
+			best[DEPTH_B] = depthB;
+		}
+	}
+
+	/**
+	 * Rotates stack A, in the shortest direction, until its smallest item is
+	 * on top.
+	 */
+	static void rotateSmallestToTop(PushSwap game) {
+
+		int smallestDepth = 0;
+
+		for (int depth = 1; depth < game.sizeA(); depth++) {
+			if (game.peekRankA(depth) < game.peekRankA(smallestDepth))
+				smallestDepth = depth;
+		}
+
+		Rotations.toTopOfA(game, smallestDepth);
+	}
+}
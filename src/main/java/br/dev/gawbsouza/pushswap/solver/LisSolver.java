@@ -0,0 +1,365 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.util.concurrent.CancellationException;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.core.Recording;
+
+/**
+ * Solver that keeps a longest cyclically increasing subsequence of stack A
+ * in place and only moves the other items.<br><br>
+ * 
+ * The kept subsequence is found by patience sorting in O(n log n). Since 
+ * the exact cyclic subsequence needs one search per rotation, the solver 
+ * searches the rotation that starts at the smallest item and the one that 
+ * starts at the top, and keeps the longest result.<br><br>
+ * 
+ * Then it sweeps stack A in the cheaper direction, pushing every item out 
+ * of the subsequence to stack B and inserting the pushed items whose slot 
+ * comes up later in the sweep. The items left on stack B are inserted 
+ * while rotating towards the smallest item and then cheapest first, like 
+ * {@code GreedySolver}. When only a few items are left, a second sweep in 
+ * either direction is also tried on a fork, and the shortest completion is
+ * kept. Finally the smallest item is rotated to the top.<br><br>
+ * 
+ * On a nearly sorted input only the few displaced items are pushed and 
+ * inserted, so the movements follow the disorder of the input instead of 
+ * its size.
+ */
+public final class LisSolver implements Solver {
+
+	private static final int MAX_SWEEP_ROTATIONS_B = 3;
+	private static final int MAX_SWEPT_ITEMS_B = 2 * MAX_SWEEP_ROTATIONS_B + 1;
+
+	private static final int CHEAPEST_FIRST = 0;
+	private static final int SWEEP_UP = 1;
+	private static final int SWEEP_DOWN = 2;
+
+	/**
+	 * Solves a rank normalized game with stack B empty.
+	 * @param game to be solved
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 */
+	@Override
+	public SolverStats solve(PushSwap game) {
+		return solve(game, Cancellation.NEVER);
+	}
+
+	/**
+	 * Solves a rank normalized game with stack B empty, polling the 
+	 * cancellation check before each push and each insertion.
+	 * @param game to be solved
+	 * @param cancellation check polled with the movements executed so far
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 * @throws CancellationException if the check asked the solver to stop
+	 */
+	@Override
+	public SolverStats solve(PushSwap game, Cancellation cancellation) {
+
+		if (!game.isNormalized())
+			throw new IllegalArgumentException("LisSolver needs a rank normalized game");
+		if (game.sizeB() != 0)
+			throw new IllegalArgumentException("LisSolver needs stack B empty");
+
+		long start = System.nanoTime();
+		int initialMoves = game.getMovementCount();
+
+		if (!game.isSolved()) {
+			var ordered = keptRanks(game);
+
+			game.startPhase("push");
+			sweep(game, ordered, initialMoves, cancellation);
+			game.endPhase("push");
+
+			game.startPhase("insert");
+			if (game.sizeB() <= MAX_SWEPT_ITEMS_B) {
+				completeShortest(game, ordered, initialMoves, cancellation);
+			} else {
+				complete(game, ordered, CHEAPEST_FIRST, initialMoves, cancellation);
+			}
+			game.endPhase("insert");
+		}
+
+		int moves = game.getMovementCount() - initialMoves;
+		return new SolverStats(getName(), moves, System.nanoTime() - start);
+	}
+
+	/**
+	 * Marks the ranks of the longest increasing subsequence found among the
+	 * rotations of stack A that start at the smallest item or at the top.
+	 */
+	private static boolean[] keptRanks(PushSwap game) {
+
+		int size = game.sizeA();
+		var ranks = new int[size];
+		int smallestDepth = 0;
+
+		for (int depth = 0; depth < size; depth++) {
+			ranks[depth] = game.peekRankA(depth);
+			if (ranks[depth] < ranks[smallestDepth]) smallestDepth = depth;
+		}
+
+		var kept = new boolean[size];
+		var fromSmallest = longestIncreasing(ranks, smallestDepth);
+		var fromTop = (smallestDepth == 0 ? fromSmallest : longestIncreasing(ranks, 0));
+		var longest = (fromTop.length > fromSmallest.length ? fromTop : fromSmallest);
+
+		for (int rank : longest) {
+			kept[rank] = true;
+		}
+
+		return kept;
+	}
+
+	/**
+	 * Finds a longest increasing subsequence of the items read from a given 
+	 * depth, wrapping around the end, by patience sorting.
+	 * @return ranks of the subsequence, in increasing order
+	 */
+	private static int[] longestIncreasing(int[] ranks, int from) {
+
+		int size = ranks.length;
+		var tails = new int[size];
+		var previous = new int[size];
+		int length = 0;
+
+		for (int i = 0; i < size; i++) {
+
+			int depth = (from + i) % size;
+			int rank = ranks[depth];
+			int low = 0;
+			int high = length;
+
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (ranks[tails[middle]] < rank) low = middle + 1;
+				else high = middle;
+			}
+
+			tails[low] = depth;
+			previous[depth] = (low == 0 ? -1 : tails[low - 1]);
+			if (low == length) length++;
+		}
+
+		var subsequence = new int[length];
+		for (int i = length - 1, depth = tails[length - 1]; i >= 0; i--, depth = previous[depth]) {
+			subsequence[i] = ranks[depth];
+		}
+
+		return subsequence;
+	}
+
+	/**
+	 * Sweeps stack A until every item out of the kept subsequence was pushed
+	 * to stack B. The sweep goes upwards or downwards, whichever needs fewer
+	 * rotations counting the final rotation of the smallest item.<br>
+	 * Before rotating past an ordered item, the items of stack B whose slot
+	 * is right above it are inserted there, so they only pay for a few 
+	 * rotations of stack B.
+	 */
+	private void sweep(PushSwap game, boolean[] ordered, int initialMoves, 
+			Cancellation cancellation) {
+
+		int size = game.sizeA();
+		var ranksOnA = new FenwickTree(size);
+		var ranksOnB = new FenwickTree(size);
+		int shallowest = -1;
+		int deepest = -1;
+		int unordered = 0;
+		int smallestIndex = 0;
+
+		for (int depth = 0; depth < size; depth++) {
+			int rank = game.peekRankA(depth);
+			if (ordered[rank]) {
+				if (ranksOnA.total() > 0 && rank < ranksOnA.findKth(1)) 
+					smallestIndex = ranksOnA.total();
+				ranksOnA.add(rank, 1);
+			} else {
+				if (shallowest < 0) shallowest = depth;
+				deepest = depth;
+				unordered++;
+			}
+		}
+
+		// Each sweep rotates the ordered items by the ones it passes, which 
+		// moves the smallest of them before the final rotation
+		int kept = ranksOnA.total();
+		int up = deepest + 1;
+		int down = size - shallowest;
+		int upTotal = up + cyclicDistance(Math.floorMod(smallestIndex - (up - unordered), kept), kept);
+		int downTotal = down + cyclicDistance(Math.floorMod(smallestIndex + (down - unordered), kept), kept);
+		boolean upwards = (upTotal <= downTotal);
+
+		while (unordered > 0) {
+
+			checkpoint(game, initialMoves, cancellation);
+
+			int top = game.peekRankA(0);
+
+			if (!ordered[top]) {
+				game.pb();
+				ranksOnB.add(top, 1);
+				unordered--;
+			} else if (!insertAbove(game, top, ranksOnA, ranksOnB, ordered)) {
+				if (upwards) game.ra();
+				else game.rra();
+			}
+		}
+	}
+
+	/**
+	 * Tries every completion on a fork and executes the shortest one.
+	 */
+	private void completeShortest(PushSwap game, boolean[] ordered, int initialMoves, 
+			Cancellation cancellation) {
+
+		PushSwap best = null;
+		int logged = 0;
+
+		for (int strategy = CHEAPEST_FIRST; strategy <= SWEEP_DOWN; strategy++) {
+
+			var fork = game.fork();
+			fork.setRecording(Recording.FULL);
+			int forkLogged = fork.getMovements().size();
+
+			complete(fork, ordered.clone(), strategy, initialMoves, cancellation);
+
+			if (best == null || fork.getMovementCount() < best.getMovementCount()) {
+				best = fork;
+				logged = forkLogged;
+			}
+		}
+
+		var solution = best.getMovements();
+		var program = solution.subList(logged, solution.size()).toArray(new Movements[0]);
+		game.apply(program, 0, program.length);
+	}
+
+	/**
+	 * Inserts every item of stack B and rotates the smallest item to the 
+	 * top. Stack A must be cyclically ordered.
+	 */
+	private void complete(PushSwap game, boolean[] ordered, int strategy, int initialMoves, 
+			Cancellation cancellation) {
+
+		int size = game.sizeA() + game.sizeB();
+		var ranksOnA = new FenwickTree(size);
+		var ranksOnB = new FenwickTree(size);
+
+		for (int depth = 0; depth < game.sizeA(); depth++) {
+			ranksOnA.add(game.peekRankA(depth), 1);
+		}
+		for (int depth = 0; depth < game.sizeB(); depth++) {
+			ranksOnB.add(game.peekRankB(depth), 1);
+		}
+
+		if (strategy == CHEAPEST_FIRST) {
+			rotateTowardsSmallest(game, ranksOnA, ranksOnB, ordered);
+			GreedySolver.insertAll(game, initialMoves, cancellation, getName());
+		} else {
+			while (game.sizeB() > 0) {
+				checkpoint(game, initialMoves, cancellation);
+				if (!insertAbove(game, game.peekRankA(0), ranksOnA, ranksOnB, ordered)) {
+					if (strategy == SWEEP_UP) game.ra();
+					else game.rra();
+				}
+			}
+		}
+
+		GreedySolver.rotateSmallestToTop(game);
+	}
+
+	/**
+	 * Rotates the smallest item of stack A to the top in the shortest 
+	 * direction, inserting on the way the items of stack B whose slot comes
+	 * up.
+	 */
+	private static void rotateTowardsSmallest(PushSwap game, FenwickTree ranksOnA, 
+			FenwickTree ranksOnB, boolean[] ordered) {
+
+		int smallestDepth = 0;
+		while (game.peekRankA(smallestDepth) != ranksOnA.findKth(1)) smallestDepth++;
+		boolean upwards = (smallestDepth <= game.sizeA() / 2);
+
+		while (true) {
+
+			int top = game.peekRankA(0);
+
+			if (!insertAbove(game, top, ranksOnA, ranksOnB, ordered)) {
+				if (top == ranksOnA.findKth(1)) return;
+				if (upwards) game.ra();
+				else game.rra();
+			}
+		}
+	}
+
+	private void checkpoint(PushSwap game, int initialMoves, Cancellation cancellation) {
+		if (cancellation.shouldStop(game.getMovementCount() - initialMoves))
+			throw new CancellationException(getName() + " cancelled");
+	}
+
+	private static int cyclicDistance(int index, int size) {
+		return Math.min(index, size - index);
+	}
+
+	/**
+	 * Inserts the item of stack B that goes right above an ordered item on 
+	 * top of stack A, if there is one. Items that go between the largest and
+	 * the smallest ordered ranks wrap around.
+	 * @return true if an item was inserted
+	 */
+	private static boolean insertAbove(PushSwap game, int top, FenwickTree ranksOnA, 
+			FenwickTree ranksOnB, boolean[] ordered) {
+
+		if (ranksOnB.total() == 0) return false;
+
+		int previous = ranksOnA.predecessor(top);
+		int belowTop = (top == 0 ? 0 : ranksOnB.prefixSum(top - 1));
+		int rank;
+
+		if (previous < top) {
+			if (belowTop == ranksOnB.prefixSum(previous)) return false;
+			rank = ranksOnB.findKth(belowTop);
+		} else if (belowTop > 0) {
+			rank = ranksOnB.findKth(belowTop);
+		} else if (ranksOnB.prefixSum(previous) < ranksOnB.total()) {
+			rank = ranksOnB.findKth(ranksOnB.total());
+		} else {
+			return false;
+		}
+
+		int depthB = nearEndOfB(game, rank);
+		if (depthB < 0) return false;
+
+		Rotations.toTop(game, 0, depthB);
+		game.pa();
+		ranksOnA.add(rank, 1);
+		ranksOnB.add(rank, -1);
+		ordered[rank] = true;
+		return true;
+	}
+
+	/**
+	 * Finds the depth of a rank on stack B, only looking within 
+	 * {@code MAX_SWEEP_ROTATIONS_B} rotations of its top or bottom, so a 
+	 * sweep step does not depend on the size of stack B.
+	 * @return depth of the rank, or {@code -1} if it is farther away
+	 */
+	private static int nearEndOfB(PushSwap game, int rank) {
+
+		int sizeB = game.sizeB();
+		int reach = Math.min(MAX_SWEEP_ROTATIONS_B, sizeB - 1);
+
+		for (int rotations = 0; rotations <= reach; rotations++) {
+			if (game.peekRankB(rotations) == rank) return rotations;
+			if (rotations > 0 && game.peekRankB(sizeB - rotations) == rank) return sizeB - rotations;
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,157 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.util.Arrays;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Admissible lower bound on the number of movements still needed to solve a
+ * game.<br><br>
+ * 
+ * The bound is the largest of three measures, each of which no movement 
+ * can reduce by more than one, so each of them never overestimates:
+ * <ul>
+ * <li>the items that are not in a longest cyclically ordered subsequence 
+ * of stack A, stack B included. Rotations keep the cyclic order, PB only 
+ * removes an item, and PA, or a swap, can extend such a subsequence by at
+ * most one item;</li>
+ * <li>the cyclic distance of the smallest item to the top of stack A, 
+ * which only moves one place per movement and must be on top before it can
+ * be pushed;</li>
+ * <li>one movement, if the game is not solved.</li>
+ * </ul>
+ * The longest cyclically ordered subsequence is bounded from above by the 
+ * longest ordered subsequence of stack A read twice, found by patience 
+ * sorting in O(n log n), which keeps the bound admissible. The subsequence
+ * is strictly increasing when the items are distinct, so an item is never
+ * taken from both readings.<br><br>
+ * 
+ * The bound serves as an A* or IDA* heuristic, and, measured before 
+ * solving, it gives the optimality gap of a solution.
+ */
+public final class LowerBound {
+
+	private LowerBound() {
+	}
+
+	/**
+	 * Computes the lower bound of a game, in O(n log n).
+	 * @param game to be measured
+	 * @return movements still needed, at least
+	 */
+	public static int of(PushSwap game) {
+
+		if (game.isSolved()) return 0;
+
+		int sizeA = game.sizeA();
+		var items = new int[sizeA];
+		for (int depth = 0; depth < sizeA; depth++) {
+			items[depth] = game.peekA(depth);
+		}
+
+		int outOfOrder = sizeA - longestCyclicBound(items, game.isNormalized() || distinct(items)) 
+				+ game.sizeB();
+		int smallestDistance = distanceOfSmallest(game, items);
+
+		return Math.max(1, Math.max(outOfOrder, smallestDistance));
+	}
+
+	/**
+	 * Measures the lower bound of a game and solves it.
+	 * @param solver to solve the game
+	 * @param game to be solved
+	 * @return statistics of the solver, with the lower bound measured before
+	 * solving
+	 */
+	public static SolverStats measure(Solver solver, PushSwap game) {
+		int bound = of(game);
+		return solver.solve(game).withLowerBound(bound);
+	}
+
+	/**
+	 * Computes the relative optimality gap of a solution, the fraction of 
+	 * its movements above the lower bound.
+	 * @param moves number of movements of the solution
+	 * @param lowerBound lower bound of the solved game
+	 * @return gap from {@code 0}, proven optimal, to {@code 1}
+	 */
+	public static double gap(int moves, int lowerBound) {
+		return (moves <= 0 ? 0 : (double) Math.max(0, moves - lowerBound) / moves);
+	}
+
+	/**
+	 * Gets the length of the longest ordered subsequence of the items read 
+	 * twice, limited to their number. It is at least the length of the 
+	 * longest cyclically ordered subsequence, since every rotation of the 
+	 * items is a window of them read twice.
+	 */
+	private static int longestCyclicBound(int[] items, boolean strict) {
+
+		int size = items.length;
+		var tails = new int[size];
+		int length = 0;
+
+		for (int i = 0; i < 2 * size && length < size; i++) {
+
+			int item = items[i < size ? i : i - size];
+			int position = firstAfter(tails, length, item, strict);
+
+			tails[position] = item;
+			if (position == length) length++;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Finds the first tail that can not be followed by an item: greater than
+	 * or equal to it when strict, greater than it otherwise.
+	 */
+	private static int firstAfter(int[] tails, int length, int item, boolean strict) {
+
+		int low = 0;
+		int high = length;
+
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (tails[middle] < item || (!strict && tails[middle] == item)) low = middle + 1;
+			else high = middle;
+		}
+
+		return low;
+	}
+
+	private static boolean distinct(int[] items) {
+
+		var sorted = items.clone();
+		Arrays.sort(sorted);
+
+		for (int i = 1; i < sorted.length; i++) {
+			if (sorted[i - 1] == sorted[i]) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Gets the cyclic distance to the top of stack A of the closest 
+	 * occurrence of the smallest item, zero if it is on stack B.
+	 */
+	private static int distanceOfSmallest(PushSwap game, int[] items) {
+
+		if (items.length == 0) return 0;
+
+		int smallest = Arrays.stream(items).min().getAsInt();
+		for (int depth = 0; depth < game.sizeB(); depth++) {
+			if (game.peekB(depth) <= smallest) return 0;
+		}
+
+		int distance = items.length;
+		for (int depth = 0; depth < items.length; depth++) {
+			if (items[depth] == smallest)
+				distance = Math.min(distance, Math.min(depth, items.length - depth));
+		}
+
+		return distance;
+	}
+}
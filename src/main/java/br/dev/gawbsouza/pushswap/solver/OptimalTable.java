@@ -0,0 +1,209 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Table of shortest solutions for every permutation of small inputs.<br><br>
+ * 
+ * The table is built by {@code OptimalTableGenerator} and has the layout 
+ * below, in little-endian order:
+ * <ul>
+ * <li>header: magic {@code "PSOT"}, version and the largest input size;</li>
+ * <li>one section position per input size, from 1 to the largest size;</li>
+ * <li>each section holds {@code n! + 1} move offsets, indexed by the Lehmer
+ * code of the permutation of ranks on stack A, followed by the moves packed
+ * in nibbles.</li>
+ * </ul>
+ * A file can be memory-mapped at startup, so a lookup is a single index 
+ * computation followed by reading the packed moves.<br><br>
+ * 
+ * A table with every input up to {@value #BUNDLED_MAX_SIZE} items is bundled
+ * as a resource and memory-mapped on the first call to {@code bundled}.
+ */
+public final class OptimalTable {
+
+	private static final Movements[] MOVEMENTS = Movements.values();
+	private static final int HEADER_INTS = 3;
+	private static final String BUNDLED_RESOURCE = "optimal-table.bin";
+
+	/**
+	 * Largest input size in the bundled table.
+	 */
+	public static final int BUNDLED_MAX_SIZE = 8;
+
+	private final ByteBuffer buffer;
+	private final int maxSize;
+
+	private OptimalTable(ByteBuffer buffer) {
+
+		this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+		if (buffer.getInt(0) != OptimalTableGenerator.MAGIC 
+				|| buffer.getInt(Integer.BYTES) != OptimalTableGenerator.VERSION)
+			throw new IllegalArgumentException("Not an optimal solution table");
+
+		maxSize = buffer.getInt(2 * Integer.BYTES);
+	}
+
+	/**
+	 * Generates a table in memory.
+	 * @param maxSize largest input size in the table, at most 9
+	 * @return the generated table
+	 */
+	public static OptimalTable generate(int maxSize) {
+		return new OptimalTable(OptimalTableGenerator.generate(maxSize));
+	}
+
+	/**
+	 * Memory-maps a table file written by {@code write}.
+	 * @param file table file
+	 * @return the mapped table
+	 * @throws IOException if the file can not be read
+	 * @throws IllegalArgumentException if the file is not a table
+	 */
+	public static OptimalTable map(Path file) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return new OptimalTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Gets the table bundled as a resource, memory-mapping it on first use.
+	 * When the resource is inside a jar, it is first copied to a temporary 
+	 * file, deleted on exit.
+	 * @return the bundled table, with every input up to 
+	 * {@value #BUNDLED_MAX_SIZE} items
+	 * @throws UncheckedIOException if the resource can not be mapped
+	 */
+	public static OptimalTable bundled() {
+		return Bundled.TABLE;
+	}
+
+	/**
+	 * Writes the table to a file.
+	 * @param file destination file
+	 * @throws IOException if the file can not be written
+	 */
+	public void write(Path file) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, 
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			var contents = buffer.duplicate().clear();
+			while (contents.hasRemaining()) {
+				channel.write(contents);
+			}
+		}
+	}
+
+	/**
+	 * Gets the largest input size in the table.
+	 * @return largest input size
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Gets the length of the shortest solution of a permutation.
+	 * @param ranks permutation of {@code 0..n-1}, from the top of stack A
+	 * @return number of movements of the shortest solution
+	 */
+	public int solutionLength(int... ranks) {
+
+		int size = ranks.length;
+		if (size == 0) return 0;
+
+		int offsets = sectionOf(size) + OptimalTableGenerator.lehmerIndex(ranks, size) * Integer.BYTES;
+		return buffer.getInt(offsets + Integer.BYTES) - buffer.getInt(offsets);
+	}
+
+	/**
+	 * Executes the shortest solution of a rank normalized game whose items 
+	 * are all on stack A.
+	 * @param game to be solved
+	 * @throws IllegalArgumentException if the game is not in the table
+	 */
+	public void solve(PushSwap game) {
+
+		if (!contains(game))
+			throw new IllegalArgumentException("Game is not in the table");
+
+		int size = game.sizeA();
+		if (size == 0) return;
+
+		var ranks = new int[size];
+		for (int depth = 0; depth < size; depth++) {
+			ranks[depth] = game.peekRankA(depth);
+		}
+
+		int section = sectionOf(size);
+		int offsets = section + OptimalTableGenerator.lehmerIndex(ranks, size) * Integer.BYTES;
+		int moves = section + (OptimalTableGenerator.factorial(size) + 1) * Integer.BYTES;
+		int end = buffer.getInt(offsets + Integer.BYTES);
+
+		for (int move = buffer.getInt(offsets); move < end; move++) {
+			int packed = buffer.get(moves + (move >>> 1));
+			game.execute(MOVEMENTS[(packed >>> ((move & 1) << 2)) & 0xF]);
+		}
+	}
+
+	/**
+	 * Checks whether the table has the solution of a game.
+	 * @param game to be checked
+	 * @return true if the game is rank normalized, has every item on stack A
+	 * and is not larger than the table
+	 */
+	public boolean contains(PushSwap game) {
+		return game.isNormalized() && game.sizeB() == 0 && game.sizeA() <= maxSize;
+	}
+
+	private int sectionOf(int size) {
+		if (size > maxSize)
+			throw new IllegalArgumentException("Table only has sizes up to " + maxSize);
+		return buffer.getInt((HEADER_INTS + size - 1) * Integer.BYTES);
+	}
+
+	static int headerBytes(int maxSize) {
+		return (HEADER_INTS + maxSize) * Integer.BYTES;
+	}
+
+	private static final class Bundled {
+
+		static final OptimalTable TABLE = load();
+
+		private static OptimalTable load() {
+
+			var resource = OptimalTable.class.getResource(BUNDLED_RESOURCE);
+			if (resource == null)
+				throw new IllegalStateException("Missing bundled table: " + BUNDLED_RESOURCE);
+
+			try {
+				if ("file".equals(resource.getProtocol()))
+					return map(Paths.get(resource.toURI()));
+
+				var file = Files.createTempFile("optimal-table", ".bin");
+				file.toFile().deleteOnExit();
+				try (var in = resource.openStream()) {
+					Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+				return map(file);
+			} catch (IOException e) {
+				throw new UncheckedIOException("Could not map the bundled table", e);
+			} catch (URISyntaxException e) {
+				throw new IllegalStateException("Invalid bundled table location: " + resource, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,329 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+
+/**
+ * Generator of {@code OptimalTable} files.<br><br>
+ * 
+ * For each input size, a breadth-first search runs backwards from the solved
+ * state over every arrangement of the items on both stacks, using the 
+ * inverse of each of the 11 movements. Every state then knows the first 
+ * movement of one of its shortest solutions, and following those movements 
+ * from each permutation on stack A gives its shortest solution, which is 
+ * packed into the table.<br><br>
+ * 
+ * Usage: {@code OptimalTableGenerator <maxSize> <file>}
+ */
+public final class OptimalTableGenerator {
+
+	static final int MAGIC = 0x50534F54;
+	static final int VERSION = 1;
+	static final int MAX_SUPPORTED_SIZE = 9;
+
+	private static final Movements[] MOVEMENTS = Movements.values();
+	private static final byte UNVISITED = -1;
+
+	private OptimalTableGenerator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		if (args.length != 2) {
+			System.err.println("Usage: OptimalTableGenerator <maxSize> <file>");
+			System.exit(1);
+		}
+
+		Path file = Paths.get(args[1]);
+		OptimalTable.generate(Integer.parseInt(args[0])).write(file);
+	}
+
+	/**
+	 * Generates the table contents for every input size up to a maximum.
+	 * @param maxSize largest input size in the table
+	 * @return buffer with the table contents, ready to be read
+	 * @throws IllegalArgumentException if the size is not supported
+	 */
+	static ByteBuffer generate(int maxSize) {
+
+		if (maxSize < 1 || maxSize > MAX_SUPPORTED_SIZE)
+			throw new IllegalArgumentException("Table size must be between 1 and " 
+					+ MAX_SUPPORTED_SIZE + ": " + maxSize);
+
+		var sections = new byte[maxSize + 1][];
+		int headerBytes = OptimalTable.headerBytes(maxSize);
+		int total = headerBytes;
+
+		for (int size = 1; size <= maxSize; size++) {
+			sections[size] = generateSection(size);
+			total += sections[size].length;
+		}
+
+		var buffer = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(maxSize);
+
+		int position = headerBytes;
+		for (int size = 1; size <= maxSize; size++) {
+			buffer.putInt(position);
+			position += sections[size].length;
+		}
+
+		for (int size = 1; size <= maxSize; size++) {
+			buffer.put(sections[size]);
+		}
+
+		return buffer.flip();
+	}
+
+	/**
+	 * Builds the section of one input size: the move offset of each 
+	 * permutation, followed by the moves packed in nibbles.
+	 */
+	private static byte[] generateSection(int size) {
+
+		byte[] firstMove = searchFirstMoves(size);
+		int permutations = factorial(size);
+		var offsets = new int[permutations + 1];
+		var moves = new NibbleWriter();
+		var state = new State(size);
+
+		for (int permutation = 0; permutation < permutations; permutation++) {
+
+			offsets[permutation] = moves.size();
+			state.load(permutation * (size + 1));
+
+			for (int current = state.index(); current != 0; current = state.index()) {
+				int move = firstMove[current];
+				moves.add(move);
+				state.apply(MOVEMENTS[move]);
+			}
+		}
+
+		offsets[permutations] = moves.size();
+
+		var section = ByteBuffer.allocate(offsets.length * Integer.BYTES + moves.bytes())
+				.order(ByteOrder.LITTLE_ENDIAN);
+
+		for (int offset : offsets) {
+			section.putInt(offset);
+		}
+
+		moves.writeTo(section);
+		return section.array();
+	}
+
+	private static byte[] searchFirstMoves(int size) {
+
+		int states = factorial(size) * (size + 1);
+		var firstMove = new byte[states];
+		var queue = new int[states];
+		var state = new State(size);
+		int head = 0;
+		int tail = 0;
+
+		Arrays.fill(firstMove, UNVISITED);
+		firstMove[0] = 0;
+		queue[tail++] = 0;
+
+		while (head < tail) {
+
+			int current = queue[head++];
+
+			for (Movements movement : MOVEMENTS) {
+
+				state.load(current);
+				state.apply(inverseOf(movement));
+				int previous = state.index();
+
+				if (firstMove[previous] == UNVISITED) {
+					firstMove[previous] = (byte) movement.ordinal();
+					queue[tail++] = previous;
+				}
+			}
+		}
+
+		return firstMove;
+	}
+
+	private static Movements inverseOf(Movements movement) {
+		switch (movement) {
+		case PA: return Movements.PB;
+		case PB: return Movements.PA;
+		case RA: return Movements.RRA;
+		case RB: return Movements.RRB;
+		case RR: return Movements.RRR;
+		case RRA: return Movements.RA;
+		case RRB: return Movements.RB;
+		case RRR: return Movements.RR;
+		default: return movement;
+		}
+	}
+
+	static int factorial(int n) {
+		int result = 1;
+		for (int i = 2; i <= n; i++) {
+			result *= i;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the Lehmer code index of a permutation of {@code 0..n-1}.
+	 * @param permutation items of the permutation
+	 * @param length number of items
+	 * @return index from {@code 0} to {@code n! - 1}
+	 */
+	static int lehmerIndex(int[] permutation, int length) {
+
+		int index = 0;
+
+		for (int i = 0; i < length; i++) {
+			int smallerAfter = 0;
+			for (int j = i + 1; j < length; j++) {
+				if (permutation[j] < permutation[i]) smallerAfter++;
+			}
+			index = index * (length - i) + smallerAfter;
+		}
+
+		return index;
+	}
+
+	private static void lehmerPermutation(int index, int[] permutation, int length) {
+
+		var digits = new int[length];
+
+		for (int i = length - 1; i >= 0; i--) {
+			digits[i] = index % (length - i);
+			index /= (length - i);
+		}
+
+		var used = new boolean[length];
+
+		for (int i = 0; i < length; i++) {
+			int remaining = digits[i];
+			for (int item = 0; item < length; item++) {
+				if (used[item]) continue;
+				if (remaining-- == 0) {
+					permutation[i] = item;
+					used[item] = true;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Arrangement of {@code n} ranks over both stacks. The items are kept 
+	 * from the top of A to the bottom of A, followed by the items from the 
+	 * top of B to the bottom of B, and indexed as 
+	 * {@code lehmer(items) * (n + 1) + sizeB}, so the solved state is zero.
+	 */
+	private static final class State {
+
+		private final int size;
+		private final int[] items;
+		private final int[] a;
+		private final int[] b;
+		private int sizeA;
+		private int sizeB;
+
+		State(int size) {
+			this.size = size;
+			items = new int[size];
+			a = new int[size];
+			b = new int[size];
+		}
+
+		void load(int index) {
+			sizeB = index % (size + 1);
+			sizeA = size - sizeB;
+			lehmerPermutation(index / (size + 1), items, size);
+			System.arraycopy(items, 0, a, 0, sizeA);
+			System.arraycopy(items, sizeA, b, 0, sizeB);
+		}
+
+		int index() {
+			System.arraycopy(a, 0, items, 0, sizeA);
+			System.arraycopy(b, 0, items, sizeA, sizeB);
+			return lehmerIndex(items, size) * (size + 1) + sizeB;
+		}
+
+		void apply(Movements movement) {
+			switch (movement) {
+			case SA: swap(a, sizeA); break;
+			case SB: swap(b, sizeB); break;
+			case SS: swap(a, sizeA); swap(b, sizeB); break;
+			case PA: if (sizeB > 0) push(b, sizeB--, a, sizeA++); break;
+			case PB: if (sizeA > 0) push(a, sizeA--, b, sizeB++); break;
+			case RA: rotateUp(a, sizeA); break;
+			case RB: rotateUp(b, sizeB); break;
+			case RR: rotateUp(a, sizeA); rotateUp(b, sizeB); break;
+			case RRA: rotateDown(a, sizeA); break;
+			case RRB: rotateDown(b, sizeB); break;
+			case RRR: rotateDown(a, sizeA); rotateDown(b, sizeB); break;
+			}
+		}
+
+		private static void swap(int[] stack, int size) {
+			if (size < 2) return;
+			int top = stack[0];
+			stack[0] = stack[1];
+			stack[1] = top;
+		}
+
+		private static void push(int[] from, int fromSize, int[] to, int toSize) {
+			int top = from[0];
+			System.arraycopy(from, 1, from, 0, fromSize - 1);
+			System.arraycopy(to, 0, to, 1, toSize);
+			to[0] = top;
+		}
+
+		private static void rotateUp(int[] stack, int size) {
+			if (size < 2) return;
+			int top = stack[0];
+			System.arraycopy(stack, 1, stack, 0, size - 1);
+			stack[size - 1] = top;
+		}
+
+		private static void rotateDown(int[] stack, int size) {
+			if (size < 2) return;
+			int bottom = stack[size - 1];
+			System.arraycopy(stack, 0, stack, 1, size - 1);
+			stack[0] = bottom;
+		}
+	}
+
+	/**
+	 * Growable sequence of 4-bit movement codes, two per byte with the low
+	 * nibble first.
+	 */
+	private static final class NibbleWriter {
+
+		private byte[] data = new byte[64];
+		private int size;
+
+		void add(int code) {
+			if ((size >>> 1) == data.length) data = Arrays.copyOf(data, data.length << 1);
+			data[size >>> 1] |= (byte) (code << ((size & 1) << 2));
+			size++;
+		}
+
+		int size() {
+			return size;
+		}
+
+		int bytes() {
+			return (size + 1) >>> 1;
+		}
+
+		void writeTo(ByteBuffer buffer) {
+			buffer.put(data, 0, bytes());
+		}
+	}
+}
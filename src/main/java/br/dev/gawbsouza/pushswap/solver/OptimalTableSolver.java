@@ -0,0 +1,46 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Solver for small inputs that replays the shortest solution stored in an
+ * {@code OptimalTable}, in O(1) lookup time.
+ */
+public final class OptimalTableSolver implements Solver {
+
+	private final OptimalTable table;
+
+	/**
+	 * OptimalTableSolver constructor, using the bundled table.
+	 */
+	public OptimalTableSolver() {
+		this(OptimalTable.bundled());
+	}
+
+	/**
+	 * OptimalTableSolver constructor.
+	 * @param table with the shortest solutions
+	 */
+	public OptimalTableSolver(OptimalTable table) {
+		this.table = table;
+	}
+
+	/**
+	 * Solves a rank normalized game with stack B empty and no more items 
+	 * than the table supports.
+	 * @param game to be solved
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not in the table
+	 */
+	@Override
+	public SolverStats solve(PushSwap game) {
+
+		long start = System.nanoTime();
+		int initialMoves = game.getMovementCount();
+
+		table.solve(game);
+
+		int moves = game.getMovementCount() - initialMoves;
+		return new SolverStats(getName(), moves, System.nanoTime() - start);
+	}
+}
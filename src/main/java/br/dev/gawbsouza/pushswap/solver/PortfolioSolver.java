@@ -0,0 +1,198 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.core.Recording;
+
+/**
+ * Solver that runs several strategies in parallel and keeps the shortest 
+ * solution.<br><br>
+ * 
+ * Each strategy runs on its own {@code fork} of the game, as a task of a 
+ * {@code ForkJoinPool}. Unless a pool is given, every call runs on a pool 
+ * of its own with one worker per strategy, so all of them start at once 
+ * whatever the number of cores. The shortest solution found so far is 
+ * shared, and every strategy is cancelled cooperatively at its next 
+ * checkpoint once it has executed as many movements as that solution, 
+ * since it can no longer win.<br><br>
+ * 
+ * The caller waits for the results only until the time budget is over. 
+ * Then it takes the shortest solution finished so far and cancels the 
+ * strategies still running, without waiting for them, so a strategy that 
+ * ignores the cancellation check can not hold the caller. If no strategy 
+ * finished by then, the caller waits for the first solution, so there is 
+ * always a result.<br><br>
+ * 
+ * The winning movements are then replayed on the given game. Strategies 
+ * that reject the game (for instance a table solver with a game too large)
+ * simply take no part in the race.
+ */
+public final class PortfolioSolver implements Solver {
+
+	private final ForkJoinPool pool;
+	private final long budgetNanos;
+	private final List<Solver> solvers;
+
+	/**
+	 * PortfolioSolver constructor that runs every call on a pool of its own,
+	 * with one worker per strategy.
+	 * @param budget wall-clock time after which slower strategies are 
+	 * cancelled
+	 * @param solvers strategies to be run
+	 * @throws IllegalArgumentException if there is no strategy
+	 */
+	public PortfolioSolver(Duration budget, Solver... solvers) {
+		this(null, budget, solvers);
+	}
+
+	/**
+	 * PortfolioSolver constructor.<br>
+	 * Strategies queued behind busy workers of the pool only start when a 
+	 * worker is free, so the pool should have a worker per strategy.
+	 * @param pool where the strategies are run, or null for a pool of its 
+	 * own on every call
+	 * @param budget wall-clock time after which slower strategies are 
+	 * cancelled
+	 * @param solvers strategies to be run
+	 * @throws IllegalArgumentException if there is no strategy
+	 */
+	public PortfolioSolver(ForkJoinPool pool, Duration budget, Solver... solvers) {
+
+		if (solvers.length == 0)
+			throw new IllegalArgumentException("PortfolioSolver needs at least one solver");
+
+		this.pool = pool;
+		this.budgetNanos = budget.toNanos();
+		this.solvers = List.of(solvers);
+	}
+
+	/**
+	 * Solves the game with the shortest solution found by the strategies 
+	 * within the time budget.
+	 * @param game to be solved
+	 * @return statistics about the executed solution, named after the 
+	 * winning strategy
+	 * @throws IllegalArgumentException if every strategy rejected the game
+	 * @throws CancellationException if the calling thread was interrupted
+	 */
+	@Override
+	public SolverStats solve(PushSwap game) {
+
+		long start = System.nanoTime();
+		long deadline = start + budgetNanos;
+		int logged = game.getMovements().size();
+		var best = new AtomicInteger(Integer.MAX_VALUE);
+		var stopped = new AtomicBoolean();
+
+		Cancellation cancellation = moves -> {
+			int shortest = best.get();
+			return (moves >= shortest || stopped.get() || (shortest != Integer.MAX_VALUE 
+					&& System.nanoTime() - deadline > 0));
+		};
+
+		var executor = (pool != null ? pool : new ForkJoinPool(solvers.size()));
+		var completion = new ExecutorCompletionService<Attempt>(executor);
+		var tasks = new ArrayList<Future<Attempt>>(solvers.size());
+
+		Attempt winner = null;
+		IllegalArgumentException rejection = null;
+
+		try {
+			for (var solver : solvers) {
+				var fork = game.fork();
+				fork.setRecording(Recording.FULL);
+				tasks.add(completion.submit(() -> attempt(solver, fork, cancellation, best)));
+			}
+
+			int pending = tasks.size();
+
+			while (pending > 0) {
+
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0 && winner != null) break;
+
+				var task = (remaining > 0 
+						? completion.poll(remaining, TimeUnit.NANOSECONDS) : completion.take());
+				if (task == null) continue;
+				pending--;
+
+				var attempt = task.get();
+				if (attempt.rejection != null) {
+					if (rejection == null) rejection = attempt.rejection;
+				} else if (attempt.stats != null 
+						&& (winner == null || attempt.stats.getMoves() < winner.stats.getMoves())) {
+					winner = attempt;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException(getName() + " interrupted");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error) throw (Error) e.getCause();
+			throw new IllegalStateException("Solver failed", e.getCause());
+		} finally {
+			stopped.set(true);
+			for (var task : tasks) {
+				task.cancel(true);
+			}
+			if (executor != pool) executor.shutdown();
+		}
+
+		if (winner == null) {
+			throw (rejection != null ? rejection 
+					: new IllegalArgumentException("No solver could solve the game"));
+		}
+
+		var solution = winner.game.getMovements();
+		var program = solution.subList(logged, solution.size()).toArray(new Movements[0]);
+		game.apply(program, 0, program.length);
+
+		return new SolverStats(winner.stats.getSolverName(), program.length, 
+				System.nanoTime() - start);
+	}
+
+	private static Attempt attempt(Solver solver, PushSwap game, 
+			Cancellation cancellation, AtomicInteger best) {
+
+		try {
+			var stats = solver.solve(game, cancellation);
+			if (!game.isSolved()) return new Attempt(null, null, null);
+			best.accumulateAndGet(stats.getMoves(), Math::min);
+			return new Attempt(game, stats, null);
+		} catch (CancellationException e) {
+			return new Attempt(null, null, null);
+		} catch (IllegalArgumentException e) {
+			return new Attempt(null, null, e);
+		}
+	}
+
+	/**
+	 * Outcome of one strategy: a solved game, a rejection or neither, when 
+	 * the strategy was cancelled.
+	 */
+	private static final class Attempt {
+
+		private final PushSwap game;
+		private final SolverStats stats;
+		private final IllegalArgumentException rejection;
+
+		private Attempt(PushSwap game, SolverStats stats, IllegalArgumentException rejection) {
+			this.game = game;
+			this.stats = stats;
+			this.rejection = rejection;
+		}
+	}
+}
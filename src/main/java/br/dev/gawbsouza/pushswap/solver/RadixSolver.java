@@ -0,0 +1,86 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.util.concurrent.CancellationException;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * LSD binary radix solver.<br><br>
+ * 
+ * For each bit of the ranks, from the least significant one, every item of 
+ * stack A with that bit cleared is pushed to stack B and the others are 
+ * rotated, then stack B is pushed back. Each pass is stable, so after the 
+ * last bit stack A is sorted.<br><br>
+ * 
+ * It executes at most {@code (2n) * ceil(log2 n)} movements in 
+ * O(n log n) time, regardless of the input shape, which makes it the 
+ * baseline for very large inputs.
+ */
+public final class RadixSolver implements Solver {
+
+	/**
+	 * Solves a rank normalized game with stack B empty.
+	 * @param game to be solved
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 */
+	@Override
+	public SolverStats solve(PushSwap game) {
+		return solve(game, Cancellation.NEVER);
+	}
+
+	/**
+	 * Solves a rank normalized game with stack B empty, polling the 
+	 * cancellation check before each pass.
+	 * @param game to be solved
+	 * @param cancellation check polled with the movements executed so far
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game is not rank normalized or
+	 * stack B is not empty
+	 * @throws CancellationException if the check asked the solver to stop
+	 */
+	@Override
+	public SolverStats solve(PushSwap game, Cancellation cancellation) {
+
+		if (!game.isNormalized())
+			throw new IllegalArgumentException("RadixSolver needs a rank normalized game");
+		if (game.sizeB() != 0)
+			throw new IllegalArgumentException("RadixSolver needs stack B empty");
+
+		long start = System.nanoTime();
+		int initialMoves = game.getMovementCount();
+		int size = game.sizeA();
+		int bits = bitsFor(size);
+
+		for (int bit = 0; bit < bits && !game.isSolved(); bit++) {
+			if (cancellation.shouldStop(game.getMovementCount() - initialMoves))
+				throw new CancellationException(getName() + " cancelled");
+			game.startPhase("pass");
+			sortByBit(game, size, bit);
+			game.endPhase("pass");
+		}
+
+		int moves = game.getMovementCount() - initialMoves;
+		return new SolverStats(getName(), moves, System.nanoTime() - start);
+	}
+
+	private static void sortByBit(PushSwap game, int size, int bit) {
+
+		for (int i = 0; i < size; i++) {
+			if (((game.peekRankA(0) >>> bit) & 1) == 0) {
+				game.pb();
+			} else {
+				game.ra();
+			}
+		}
+
+		while (game.sizeB() > 0) {
+			game.pa();
+		}
+	}
+
+	private static int bitsFor(int size) {
+		return (size < 2 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1));
+	}
+}
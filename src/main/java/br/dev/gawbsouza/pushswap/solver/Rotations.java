@@ -0,0 +1,81 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Helpers to bring items to the top of both stacks with the fewest 
+ * movements, merging rotations into RR/RRR whenever possible.
+ */
+final class Rotations {
+
+	private Rotations() {
+	}
+
+	/**
+	 * Gets the number of movements needed to bring two items to the top of
+	 * their stacks at the same time.
+	 * @param depthA depth of the item on stack A
+	 * @param sizeA size of stack A
+	 * @param depthB depth of the item on stack B
+	 * @param sizeB size of stack B
+	 * @return minimal number of rotations
+	 */
+	static int cost(int depthA, int sizeA, int depthB, int sizeB) {
+
+		int downA = (depthA == 0 ? 0 : sizeA - depthA);
+		int downB = (depthB == 0 ? 0 : sizeB - depthB);
+
+		int bothUp = Math.max(depthA, depthB);
+		int bothDown = Math.max(downA, downB);
+		int upDown = depthA + downB;
+		int downUp = downA + depthB;
+
+		return Math.min(Math.min(bothUp, bothDown), Math.min(upDown, downUp));
+	}
+
+	/**
+	 * Brings two items to the top of their stacks at the same time, with the
+	 * minimal number of rotations given by {@code cost}.
+	 * @param game where rotations are executed
+	 * @param depthA depth of the item on stack A
+	 * @param depthB depth of the item on stack B
+	 */
+	static void toTop(PushSwap game, int depthA, int depthB) {
+
+		int sizeA = game.sizeA();
+		int sizeB = game.sizeB();
+		int downA = (depthA == 0 ? 0 : sizeA - depthA);
+		int downB = (depthB == 0 ? 0 : sizeB - depthB);
+
+		int bothUp = Math.max(depthA, depthB);
+		int bothDown = Math.max(downA, downB);
+		int upDown = depthA + downB;
+		int best = cost(depthA, sizeA, depthB, sizeB);
+
+		if (best == bothUp) {
+			for (; depthA > 0 && depthB > 0; depthA--, depthB--) game.rr();
+			for (; depthA > 0; depthA--) game.ra();
+			for (; depthB > 0; depthB--) game.rb();
+		} else if (best == bothDown) {
+			for (; downA > 0 && downB > 0; downA--, downB--) game.rrr();
+			for (; downA > 0; downA--) game.rra();
+			for (; downB > 0; downB--) game.rrb();
+		} else if (best == upDown) {
+			for (; depthA > 0; depthA--) game.ra();
+			for (; downB > 0; downB--) game.rrb();
+		} else {
+			for (; downA > 0; downA--) game.rra();
+			for (; depthB > 0; depthB--) game.rb();
+		}
+	}
+
+	/**
+	 * Brings an item of stack A to the top, rotating in the shortest 
+	 * direction.
+	 * @param game where rotations are executed
+	 * @param depthA depth of the item on stack A
+	 */
+	static void toTopOfA(PushSwap game, int depthA) {
+		toTop(game, depthA, 0);
+	}
+}
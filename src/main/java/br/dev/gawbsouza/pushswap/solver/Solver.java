@@ -0,0 +1,46 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.util.concurrent.CancellationException;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+/**
+ * Strategy that solves a {@code PushSwap} game by executing its movements.
+ */
+public interface Solver {
+
+	/**
+	 * Solves the game, leaving stack A sorted in ascending order and stack B
+	 * empty.
+	 * @param game to be solved
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game can not be solved by this
+	 * strategy
+	 */
+	SolverStats solve(PushSwap game);
+
+	/**
+	 * Solves the game, polling a cancellation check at the checkpoints of 
+	 * the strategy.<br>
+	 * Strategies that have no checkpoints ignore the check and run to the 
+	 * end. When the solver is cancelled the game is left halfway, so it 
+	 * should be a {@code fork} of the game to be solved.
+	 * @param game to be solved
+	 * @param cancellation check polled with the movements executed so far
+	 * @return statistics about the executed solution
+	 * @throws IllegalArgumentException if the game can not be solved by this
+	 * strategy
+	 * @throws CancellationException if the check asked the solver to stop
+	 */
+	default SolverStats solve(PushSwap game, Cancellation cancellation) {
+		return solve(game);
+	}
+
+	/**
+	 * Gets the name of this strategy, used to identify it in statistics.
+	 * @return name of the strategy
+	 */
+	default String getName() {
+		return getClass().getSimpleName();
+	}
+}
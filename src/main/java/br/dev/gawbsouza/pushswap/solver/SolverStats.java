@@ -0,0 +1,92 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import java.util.Locale;
+
+/**
+ * Statistics of a {@code Solver} execution.
+ */
+public final class SolverStats {
+
+	private final String solverName;
+	private final int moves;
+	private final long elapsedNanos;
+	private final int lowerBound;
+
+	/**
+	 * SolverStats constructor.
+	 * @param solverName name of the solver that produced the solution
+	 * @param moves number of movements executed by the solver
+	 * @param elapsedNanos wall-clock time spent by the solver
+	 */
+	public SolverStats(String solverName, int moves, long elapsedNanos) {
+		this(solverName, moves, elapsedNanos, -1);
+	}
+
+	private SolverStats(String solverName, int moves, long elapsedNanos, int lowerBound) {
+		this.solverName = solverName;
+		this.moves = moves;
+		this.elapsedNanos = elapsedNanos;
+		this.lowerBound = lowerBound;
+	}
+
+	/**
+	 * Creates a copy of these statistics with the lower bound of the solved
+	 * game.
+	 * @param lowerBound lower bound measured before solving
+	 * @return statistics with the lower bound
+	 * @see LowerBound
+	 */
+	public SolverStats withLowerBound(int lowerBound) {
+		return new SolverStats(solverName, moves, elapsedNanos, lowerBound);
+	}
+
+	/**
+	 * Gets the name of the solver that produced the solution.
+	 * @return solver name
+	 */
+	public String getSolverName() {
+		return solverName;
+	}
+
+	/**
+	 * Gets the number of movements executed by the solver.
+	 * @return number of movements
+	 */
+	public int getMoves() {
+		return moves;
+	}
+
+	/**
+	 * Gets the wall-clock time spent by the solver.
+	 * @return elapsed time, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Gets the lower bound of the solved game.
+	 * @return lower bound, or {@code -1} if it was not measured
+	 */
+	public int getLowerBound() {
+		return lowerBound;
+	}
+
+	/**
+	 * Gets the relative optimality gap of the solution.
+	 * @return gap from {@code 0} to {@code 1}, or {@code NaN} if the lower 
+	 * bound was not measured
+	 * @see LowerBound#gap(int, int)
+	 */
+	public double getOptimalityGap() {
+		return (lowerBound < 0 ? Double.NaN : LowerBound.gap(moves, lowerBound));
+	}
+
+	@Override
+	public String toString() {
+		var text = solverName + ": " + moves + " moves in " + elapsedNanos + " ns";
+		if (lowerBound < 0) return text;
+		return text + ", lower bound " + lowerBound 
+				+ String.format(Locale.ROOT, " (gap %.1f%%)", 100 * getOptimalityGap());
+	}
+}
@@ -0,0 +1,279 @@
+package br.dev.gawbsouza.pushswap.tuning;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.core.Recording;
+import br.dev.gawbsouza.pushswap.solver.ChunkSolver;
+import br.dev.gawbsouza.pushswap.solver.Solver;
+
+/**
+ * Parallel search of the solver parameters that execute the fewest 
+ * movements over a seeded corpus of inputs.<br><br>
+ * 
+ * The candidates are every combination of the values given for each 
+ * parameter. The corpus of each input size is a list of shuffled 
+ * permutations built from a seed, so sweeps are reproducible. Each input 
+ * is normalized once and every evaluation solves an O(1) {@code fork} of 
+ * it, so the sweep only pays for the solver movements. The inputs only
+ * count movements ({@code Recording.COUNT}), so no evaluation grows a 
+ * movement log. All the (candidate, input) evaluations of a round run in
+ * parallel on a {@code ForkJoinPool}.<br><br>
+ * 
+ * Two strategies are available:
+ * <ul>
+ * <li>{@code GRID} evaluates every candidate on the whole corpus;</li>
+ * <li>{@code SUCCESSIVE_HALVING} evaluates every candidate on a small 
+ * prefix of the corpus, keeps the best half, doubles the prefix and so on,
+ * so most of the time is spent on the promising candidates.</li>
+ * </ul>
+ * 
+ * Usage: {@code ParameterSweep [-halving] <profile> <corpusSize> <seed> 
+ * <size>...}, which tunes {@code ChunkSolver} for each size and writes the
+ * resulting {@code TuningProfile}.
+ */
+public final class ParameterSweep {
+
+	/**
+	 * Search strategy over the candidates.
+	 */
+	public enum Strategy {
+		GRID, SUCCESSIVE_HALVING
+	}
+
+	private static final int[] CHUNK_COUNTS = {1, 2, 3, 4, 5, 6, 8, 10, 12, 14, 16, 20, 24, 28, 32, 40};
+	private static final int[] PIVOT_PERCENTS = {0, 25, 50, 75, 100};
+
+	private final Function<int[], Solver> factory;
+	private final List<int[]> candidates;
+	private final ForkJoinPool pool;
+
+	/**
+	 * ParameterSweep constructor that runs on the common pool.
+	 * @param factory creates a solver from a parameter vector
+	 * @param values candidate values of each parameter, in the order the 
+	 * factory expects them
+	 */
+	public ParameterSweep(Function<int[], Solver> factory, int[]... values) {
+		this(ForkJoinPool.commonPool(), factory, values);
+	}
+
+	/**
+	 * ParameterSweep constructor.
+	 * @param pool where the evaluations are run
+	 * @param factory creates a solver from a parameter vector
+	 * @param values candidate values of each parameter, in the order the 
+	 * factory expects them
+	 * @throws IllegalArgumentException if a parameter has no value
+	 */
+	public ParameterSweep(ForkJoinPool pool, Function<int[], Solver> factory, int[]... values) {
+
+		for (var parameterValues : values) {
+			if (parameterValues.length == 0)
+				throw new IllegalArgumentException("Every parameter needs at least one value");
+		}
+
+		this.pool = pool;
+		this.factory = factory;
+		this.candidates = combinations(values);
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		int first = (args.length > 0 && args[0].equals("-halving") ? 1 : 0);
+
+		if (args.length - first < 4) {
+			System.err.println("Usage: ParameterSweep [-halving] <profile> <corpusSize> <seed> <size>...");
+			System.exit(1);
+		}
+
+		var strategy = (first == 1 ? Strategy.SUCCESSIVE_HALVING : Strategy.GRID);
+		int corpusSize = Integer.parseInt(args[first + 1]);
+		long seed = Long.parseLong(args[first + 2]);
+		var sizes = new int[args.length - first - 3];
+
+		for (int i = 0; i < sizes.length; i++) {
+			sizes[i] = Integer.parseInt(args[first + 3 + i]);
+		}
+
+		var sweep = new ParameterSweep(ChunkSolver::of, CHUNK_COUNTS, PIVOT_PERCENTS);
+		var profile = sweep.tune(sizes, corpusSize, seed, strategy);
+
+		profile.write(Paths.get(args[first]));
+		System.out.print(profile);
+	}
+
+	/**
+	 * Gets the number of candidate parameter vectors.
+	 * @return number of combinations of the parameter values
+	 */
+	public int getCandidateCount() {
+		return candidates.size();
+	}
+
+	/**
+	 * Finds the best parameters for each input size.
+	 * @param sizes input sizes, one bucket each
+	 * @param corpusSize number of inputs of each size
+	 * @param seed of the corpus
+	 * @param strategy search strategy
+	 * @return profile with the best parameters of each size
+	 */
+	public TuningProfile tune(int[] sizes, int corpusSize, long seed, Strategy strategy) {
+
+		var entries = new ArrayList<TuningProfile.Entry>(sizes.length);
+
+		for (int size : sizes) {
+			entries.add(sweep(size, corpusSize, seed, strategy));
+		}
+
+		return new TuningProfile(entries);
+	}
+
+	/**
+	 * Finds the best parameters for one input size.
+	 * @param size number of items of each input
+	 * @param corpusSize number of inputs
+	 * @param seed of the corpus
+	 * @param strategy search strategy
+	 * @return best parameters and their mean number of movements
+	 * @throws IllegalArgumentException if the corpus is empty or no 
+	 * candidate solved every input
+	 */
+	public TuningProfile.Entry sweep(int size, int corpusSize, long seed, Strategy strategy) {
+
+		if (corpusSize < 1)
+			throw new IllegalArgumentException("Corpus needs at least one input: " + corpusSize);
+
+		var inputs = new PushSwap[corpusSize];
+		for (int i = 0; i < corpusSize; i++) {
+			inputs[i] = PushSwap.normalized(shuffled(size, seed + i));
+			inputs[i].setRecording(Recording.COUNT);
+		}
+
+		var solvers = new Solver[candidates.size()];
+		for (int i = 0; i < solvers.length; i++) {
+			solvers[i] = factory.apply(candidates.get(i));
+		}
+
+		var totals = new long[candidates.size()];
+		var alive = IntStream.range(0, totals.length).boxed()
+				.collect(Collectors.toCollection(ArrayList::new));
+		int evaluated = 0;
+
+		int prefix = corpusSize;
+		if (strategy == Strategy.SUCCESSIVE_HALVING) {
+			int rounds = 32 - Integer.numberOfLeadingZeros(Math.max(0, alive.size() - 1));
+			prefix = Math.max(1, corpusSize >> rounds);
+		}
+
+		while (true) {
+
+			int target = Math.min(corpusSize, prefix);
+			evaluate(solvers, inputs, alive, evaluated, target, totals);
+			evaluated = target;
+
+			if (alive.size() == 1 || evaluated == corpusSize) break;
+
+			alive.sort(Comparator.comparingLong(candidate -> totals[candidate]));
+			alive.subList((alive.size() + 1) / 2, alive.size()).clear();
+			prefix <<= 1;
+		}
+
+		int best = alive.get(0);
+		for (int candidate : alive) {
+			if (totals[candidate] < totals[best]) best = candidate;
+		}
+
+		if (totals[best] == Long.MAX_VALUE)
+			throw new IllegalArgumentException("No candidate solved every input of size " + size);
+
+		return new TuningProfile.Entry(size, candidates.get(best), 
+				(double) totals[best] / evaluated);
+	}
+
+	/**
+	 * Adds the movements of each alive candidate on the inputs in 
+	 * {@code [from, to)} to its total, evaluating every pair in parallel. A 
+	 * candidate that fails to solve an input, or throws while solving it, 
+	 * gets {@code Long.MAX_VALUE}.
+	 */
+	private void evaluate(Solver[] solvers, PushSwap[] inputs, List<Integer> alive, 
+			int from, int to, long[] totals) {
+
+		int inputCount = to - from;
+		var indices = alive.stream().mapToInt(Integer::intValue).toArray();
+
+		long[] moves = pool.submit(() -> IntStream.range(0, indices.length * inputCount)
+				.parallel()
+				.mapToLong(task -> moves(solvers[indices[task / inputCount]], 
+						inputs[from + task % inputCount]))
+				.toArray()).join();
+
+		for (int task = 0; task < moves.length; task++) {
+			int candidate = indices[task / inputCount];
+			totals[candidate] = (moves[task] == Long.MAX_VALUE || totals[candidate] == Long.MAX_VALUE 
+					? Long.MAX_VALUE : totals[candidate] + moves[task]);
+		}
+	}
+
+	private static long moves(Solver solver, PushSwap input) {
+
+		var game = input.fork();
+
+		try {
+			var stats = solver.solve(game);
+			return (game.isSolved() ? stats.getMoves() : Long.MAX_VALUE);
+		} catch (RuntimeException e) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	private static List<int[]> combinations(int[][] values) {
+
+		var combinations = new ArrayList<int[]>();
+		combinations.add(new int[0]);
+
+		for (int parameter = 0; parameter < values.length; parameter++) {
+			var extended = new ArrayList<int[]>(combinations.size() * values[parameter].length);
+			for (var prefix : combinations) {
+				for (int value : values[parameter]) {
+					var combination = Arrays.copyOf(prefix, parameter + 1);
+					combination[parameter] = value;
+					extended.add(combination);
+				}
+			}
+			combinations = extended;
+		}
+
+		return combinations;
+	}
+
+	/**
+	 * Builds a seeded shuffled permutation of the ranks {@code 0..size-1}.
+	 */
+	static int[] shuffled(int size, long seed) {
+
+		var random = new Random(seed);
+		var numbers = IntStream.range(0, size).toArray();
+
+		for (int i = size - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = numbers[i];
+			numbers[i] = numbers[j];
+			numbers[j] = swap;
+		}
+
+		return numbers;
+	}
+}
@@ -0,0 +1,200 @@
+package br.dev.gawbsouza.pushswap.tuning;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Best solver parameters per input size bucket, as found by 
+ * {@code ParameterSweep}.<br><br>
+ * 
+ * Each entry covers the input sizes above the previous entry size and up 
+ * to its own size; the last entry also covers the larger sizes. Profiles 
+ * are saved as text, one entry per line with the bucket size, the 
+ * parameters and the mean number of movements, so they can be reviewed and
+ * committed along with the code:
+ * <pre>
+ * # size parameters... mean-moves
+ * 100 5 50 612.37
+ * 500 11 50 5320.10
+ * </pre>
+ */
+public final class TuningProfile {
+
+	private final List<Entry> entries;
+
+	/**
+	 * TuningProfile constructor.
+	 * @param entries one entry per size bucket, in any order
+	 * @throws IllegalArgumentException if there is no entry or two entries 
+	 * have the same size
+	 */
+	public TuningProfile(List<Entry> entries) {
+
+		if (entries.isEmpty())
+			throw new IllegalArgumentException("Tuning profile needs at least one entry");
+
+		var sorted = new ArrayList<>(entries);
+		sorted.sort(Comparator.comparingInt(Entry::getSize));
+
+		for (int i = 1; i < sorted.size(); i++) {
+			if (sorted.get(i - 1).getSize() == sorted.get(i).getSize())
+				throw new IllegalArgumentException("Duplicated size bucket: " + sorted.get(i).getSize());
+		}
+
+		this.entries = Collections.unmodifiableList(sorted);
+	}
+
+	/**
+	 * Reads a profile saved by {@code write}.
+	 * @param file with the profile
+	 * @return the profile
+	 * @throws IOException if the file can not be read
+	 * @throws IllegalArgumentException if the file is not a valid profile
+	 */
+	public static TuningProfile read(Path file) throws IOException {
+
+		var entries = new ArrayList<Entry>();
+
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) continue;
+				entries.add(parseEntry(line));
+			}
+		}
+
+		return new TuningProfile(entries);
+	}
+
+	/**
+	 * Writes the profile as text.
+	 * @param file where the profile is written
+	 * @throws IOException if the file can not be written
+	 */
+	public void write(Path file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write(toString());
+		}
+	}
+
+	/**
+	 * Gets the entries, sorted by size.
+	 * @return read-only list of entries
+	 */
+	public List<Entry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Gets the parameters tuned for the bucket of an input size.
+	 * @param size number of items of the input
+	 * @return copy of the parameters
+	 */
+	public int[] parametersFor(int size) {
+
+		for (var entry : entries) {
+			if (size <= entry.getSize()) return entry.getParameters();
+		}
+
+		return entries.get(entries.size() - 1).getParameters();
+	}
+
+	@Override
+	public String toString() {
+
+		var text = new StringBuilder("# size parameters... mean-moves\n");
+
+		for (var entry : entries) {
+			text.append(entry).append('\n');
+		}
+
+		return text.toString();
+	}
+
+	private static Entry parseEntry(String line) {
+
+		var fields = line.split("\\s+");
+
+		if (fields.length < 2)
+			throw new IllegalArgumentException("Invalid profile entry: " + line);
+
+		try {
+			var parameters = new int[fields.length - 2];
+			for (int i = 0; i < parameters.length; i++) {
+				parameters[i] = Integer.parseInt(fields[i + 1]);
+			}
+			return new Entry(Integer.parseInt(fields[0]), parameters, 
+					Double.parseDouble(fields[fields.length - 1]));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid profile entry: " + line, e);
+		}
+	}
+
+	/**
+	 * Best parameters for one size bucket.
+	 */
+	public static final class Entry {
+
+		private final int size;
+		private final int[] parameters;
+		private final double meanMoves;
+
+		/**
+		 * Entry constructor.
+		 * @param size largest input size of the bucket
+		 * @param parameters best solver parameters for the bucket
+		 * @param meanMoves mean number of movements with those parameters
+		 */
+		public Entry(int size, int[] parameters, double meanMoves) {
+			this.size = size;
+			this.parameters = parameters.clone();
+			this.meanMoves = meanMoves;
+		}
+
+		/**
+		 * Gets the largest input size of the bucket.
+		 * @return largest input size
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * Gets the best solver parameters for the bucket.
+		 * @return copy of the parameters
+		 */
+		public int[] getParameters() {
+			return parameters.clone();
+		}
+
+		/**
+		 * Gets the mean number of movements with the best parameters.
+		 * @return mean number of movements
+		 */
+		public double getMeanMoves() {
+			return meanMoves;
+		}
+
+		@Override
+		public String toString() {
+
+			var text = new StringBuilder().append(size);
+
+			for (int parameter : parameters) {
+				text.append(' ').append(parameter);
+			}
+
+			return text.append(String.format(Locale.ROOT, " %.2f", meanMoves)).toString();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package br.dev.gawbsouza.pushswap.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.solver.GreedySolver;
+import br.dev.gawbsouza.pushswap.solver.RadixSolver;
+import br.dev.gawbsouza.pushswap.solver.SolverStats;
+
+public class BatchPipelineTest {
+
+	private static String instance(int size, long seed) {
+		var random = new Random(seed);
+		return random.ints(size * 4L, -1000, 1000).distinct().limit(size)
+				.mapToObj(Integer::toString).collect(Collectors.joining(" "));
+	}
+
+	private static boolean solves(String instance, String result) {
+
+		var numbers = (instance.isEmpty() ? new int[0] 
+				: Arrays.stream(instance.split(" ")).mapToInt(Integer::parseInt).toArray());
+		var game = new PushSwap(numbers);
+
+		if (!result.isEmpty()) {
+			for (var movement : result.split(" ")) {
+				game.execute(Movements.valueOf(movement.toUpperCase()));
+			}
+		}
+
+		return game.isSolved();
+	}
+
+	@Test
+	public void should_keep_results_in_input_order() throws Exception {
+
+		var instances = IntStream.range(0, 300)
+				.mapToObj(i -> instance(i % 40, i)).toArray(String[]::new);
+		var out = new StringWriter();
+
+		long count = new BatchPipeline(new GreedySolver(), 4, 3)
+				.run(new StringReader(String.join("\n", instances)), out);
+
+		var results = out.toString().split("\n", -1);
+
+		assertEquals(300, count);
+		assertEquals(301, results.length);
+		for (int i = 0; i < instances.length; i++) {
+			assertTrue(solves(instances[i], results[i]), "Instance " + i);
+		}
+	}
+
+	@Test
+	public void should_write_error_for_invalid_instances() throws Exception {
+
+		var out = new StringWriter();
+
+		new BatchPipeline(new RadixSolver(), 2)
+				.run(new StringReader("2 1\n1 x\n\n3 3\n2147483648\n1 2\n"), out);
+
+		assertEquals("ra\nError\n\nError\nError\n\n", out.toString());
+	}
+
+	@Test
+	public void should_report_output_failure() {
+
+		var failing = new Writer() {
+			@Override public void write(char[] buffer, int offset, int length) throws IOException {
+				throw new IOException("disk full");
+			}
+			@Override public void flush() {}
+			@Override public void close() {}
+		};
+
+		var input = IntStream.range(0, 10_000).mapToObj(i -> "2 1")
+				.collect(Collectors.joining("\n"));
+
+		assertThrows(IOException.class, 
+				() -> new BatchPipeline(new RadixSolver(), 2, 2).run(new StringReader(input), failing));
+	}
+
+	@Test
+	public void should_report_solver_failure_without_stalling() {
+
+		var pipeline = new BatchPipeline(game -> {
+			if (game.sizeA() == 3) throw new ArithmeticException("broken");
+			return new SolverStats("noop", 0, 0);
+		}, 2, 2);
+
+		var out = new StringWriter();
+
+		assertThrows(IllegalStateException.class, 
+				() -> pipeline.run(new StringReader("1\n1 2 3\n1 2\n"), out));
+		assertEquals("\nError\n\n", out.toString());
+	}
+
+	@Test
+	public void should_report_solver_error_without_stalling() {
+
+		var pipeline = new BatchPipeline(game -> {
+			if (game.sizeA() == 3) throw new StackOverflowError("broken");
+			return new SolverStats("noop", 0, 0);
+		}, 2, 2);
+
+		var out = new StringWriter();
+
+		var failure = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(
+				IllegalStateException.class, () -> pipeline.run(new StringReader("1\n1 2 3\n1 2\n1 2 3\n"), out)));
+		assertTrue(failure.getCause() instanceof StackOverflowError);
+		assertEquals("\nError\n\nError\n", out.toString());
+	}
+}
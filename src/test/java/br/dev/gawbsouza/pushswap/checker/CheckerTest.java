@@ -0,0 +1,88 @@
+package br.dev.gawbsouza.pushswap.checker;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.checker.Checker.Verdict;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class CheckerTest {
+
+	private static ReadableByteChannel movesOf(String moves) {
+		var bytes = moves.getBytes(StandardCharsets.US_ASCII);
+		return Channels.newChannel(new ByteArrayInputStream(bytes));
+	}
+
+	@Test
+	public void should_be_ok_when_moves_solve_the_game() throws IOException {
+
+		var game = PushSwap.normalized(2, 1, 3);
+
+		assertEquals(Verdict.OK, new Checker().check(game, movesOf("sa\n")));
+		assertEquals(0, game.getMovements().size());
+	}
+
+	@Test
+	public void should_be_ok_when_already_solved_and_no_moves() throws IOException {
+		assertEquals(Verdict.OK, new Checker().check(PushSwap.normalized(1, 2, 3), movesOf("")));
+	}
+
+	@Test
+	public void should_be_ko_when_moves_do_not_solve_the_game() throws IOException {
+
+		var game = PushSwap.normalized(3, 2, 1);
+
+		assertEquals(Verdict.KO, new Checker().check(game, movesOf("pb\nra\n")));
+	}
+
+	@Test
+	public void should_accept_last_move_without_line_break() throws IOException {
+
+		var game = PushSwap.normalized(3, 1, 2);
+
+		assertEquals(Verdict.OK, new Checker().check(game, movesOf("rra\nrra\nrra\nra")));
+	}
+
+	@Test
+	public void should_be_error_for_invalid_moves() throws IOException {
+
+		assertEquals(Verdict.ERROR, new Checker().check(PushSwap.normalized(1, 2), movesOf("sa\nsc\n")));
+		assertEquals(Verdict.ERROR, new Checker().check(PushSwap.normalized(1, 2), movesOf("rrra\n")));
+		assertEquals(Verdict.ERROR, new Checker().check(PushSwap.normalized(1, 2), movesOf("\n")));
+		assertEquals(Verdict.ERROR, new Checker().check(PushSwap.normalized(1, 2), movesOf("SA\n")));
+		assertEquals(Verdict.ERROR, new Checker().check(PushSwap.normalized(2, 1), movesOf("\0sa\n")));
+		assertEquals(Verdict.ERROR, new Checker().check(PushSwap.normalized(2, 1), movesOf("sa\0")));
+	}
+
+	@Test
+	public void should_match_tokens_split_across_buffer_reads() throws IOException {
+
+		var moves = new StringBuilder();
+		for (int i = 0; i < 10_000; i++) {
+			moves.append("rra\nrrb\nrr\n");
+		}
+		moves.append("pb\npa\n");
+
+		var game = PushSwap.normalized(1, 2, 3, 4, 5, 6, 7);
+
+		assertEquals(Verdict.OK, new Checker(5).check(game, movesOf(moves.toString())));
+	}
+
+	@Test
+	public void should_parse_numbers_from_separate_or_joined_arguments() {
+
+		assertArrayEquals(new int[] {3, -2, 1, 42}, 
+				Checker.parseNumbers(new String[] {"-f", "x", "3 -2", " 1 ", "42"}, 2));
+		assertThrows(NumberFormatException.class, 
+				() -> Checker.parseNumbers(new String[] {"2147483648"}, 0));
+	}
+}
@@ -0,0 +1,153 @@
+package br.dev.gawbsouza.pushswap.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class InputLoaderTest {
+
+	@TempDir
+	Path directory;
+
+	private Path write(String text) throws IOException {
+		var file = directory.resolve("input.txt");
+		Files.write(file, text.getBytes(StandardCharsets.US_ASCII));
+		return file;
+	}
+
+	/**
+	 * Channel that hands out one byte per read, so every number crosses a 
+	 * buffer boundary.
+	 */
+	private static ReadableByteChannel trickle(String text) {
+
+		var bytes = text.getBytes(StandardCharsets.US_ASCII);
+
+		return new ReadableByteChannel() {
+
+			private int next;
+
+			@Override
+			public int read(ByteBuffer buffer) {
+				if (next == bytes.length) return -1;
+				buffer.put(bytes[next++]);
+				return 1;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+
+	@Test
+	public void should_load_numbers_separated_by_any_whitespace() throws IOException {
+
+		var game = InputLoader.load(write(" 3\t-1\r\n+20\n\n-2147483648 2147483647"), false);
+
+		assertArrayEquals(new int[] {3, -1, 20, Integer.MIN_VALUE, Integer.MAX_VALUE}, 
+				game.streamA().toArray());
+		assertEquals(0, game.sizeB());
+	}
+
+	@Test
+	public void should_load_normalized_game() throws IOException {
+
+		var game = InputLoader.load(write("30 -10 20"), true);
+
+		assertTrue(game.isNormalized());
+		assertArrayEquals(new int[] {30, -10, 20}, game.streamA().toArray());
+		assertEquals(2, game.peekRankA(0));
+		assertEquals(0, game.peekRankA(1));
+	}
+
+	@Test
+	public void should_load_numbers_split_across_reads() throws IOException {
+
+		var game = InputLoader.load(trickle("123 -45 6"), false);
+
+		assertArrayEquals(new int[] {123, -45, 6}, game.streamA().toArray());
+	}
+
+	@Test
+	public void should_load_empty_input() throws IOException {
+		assertEquals(0, InputLoader.load(write(" \n"), true).sizeA());
+	}
+
+	@Test
+	public void should_reject_out_of_range_numbers() throws IOException {
+
+		var tooLarge = write("1 2147483648");
+		var tooSmall = write("-2147483649");
+
+		assertThrows(NumberFormatException.class, () -> InputLoader.load(tooLarge, false));
+		assertThrows(NumberFormatException.class, () -> InputLoader.load(trickle("-2147483649"), false));
+		assertThrows(NumberFormatException.class, () -> InputLoader.load(tooSmall, true));
+	}
+
+	@Test
+	public void should_reject_invalid_tokens() throws IOException {
+		for (var text : new String[] {"1 a", "1-2", "--1", "-", "1,2"}) {
+			var file = write(text);
+			assertThrows(NumberFormatException.class, () -> InputLoader.load(file, false), text);
+		}
+	}
+
+	@Test
+	public void should_reject_duplicated_numbers() throws IOException {
+
+		var duplicated = write("5 -2147483648 7 -2147483648");
+
+		var plain = assertThrows(IllegalArgumentException.class, 
+				() -> InputLoader.load(duplicated, false));
+		var normalized = assertThrows(IllegalArgumentException.class, 
+				() -> InputLoader.load(duplicated, true));
+
+		assertEquals("Duplicated number: -2147483648", plain.getMessage());
+		assertEquals("Duplicated number: -2147483648", normalized.getMessage());
+	}
+
+	@Test
+	public void should_load_large_inputs_like_the_constructor() throws IOException {
+
+		var numbers = new Random(21).ints(-1_000_000_000, 1_000_000_000)
+				.distinct().limit(200_000).toArray();
+		var text = Arrays.stream(numbers).mapToObj(Integer::toString)
+				.collect(Collectors.joining("\n"));
+
+		var fromFile = InputLoader.load(write(text), false);
+		var fromStream = InputLoader.load(Channels.newChannel(
+				new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))), true);
+		var expected = new PushSwap(numbers);
+
+		assertArrayEquals(numbers, fromFile.streamA().toArray());
+		assertArrayEquals(numbers, fromStream.streamA().toArray());
+		assertEquals(expected.stateHash(), fromFile.stateHash());
+		assertTrue(expected.stateEquals(fromFile));
+		assertEquals(expected.isAOrdered(), fromFile.isAOrdered());
+
+		var duplicated = write(text + " " + numbers[123_456]);
+		assertThrows(IllegalArgumentException.class, () -> InputLoader.load(duplicated, false));
+	}
+}
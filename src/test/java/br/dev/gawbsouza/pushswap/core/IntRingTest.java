@@ -0,0 +1,140 @@
+package br.dev.gawbsouza.pushswap.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class IntRingTest {
+
+	private static IntRing ringOf(int capacity, int... topToBottom) {
+		var ring = new IntRing(capacity);
+		for (int i = topToBottom.length - 1; i >= 0; i--) {
+			ring.push(topToBottom[i]);
+		}
+		return ring;
+	}
+
+	private static void assertRing(IntRing ring, int... topToBottom) {
+		assertEquals(topToBottom.length, ring.size());
+		for (int depth = 0; depth < topToBottom.length; depth++) {
+			assertEquals(topToBottom[depth], ring.get(depth));
+		}
+	}
+
+	@Test
+	public void should_push_and_pop_in_lifo_order() {
+
+		var ring = ringOf(3, 1, 2, 3);
+
+		assertEquals(1, ring.pop());
+		assertEquals(2, ring.pop());
+		assertEquals(3, ring.pop());
+		assertEquals(0, ring.size());
+	}
+
+	@Test
+	public void should_swap_top_items() {
+
+		var ring = ringOf(3, 1, 2, 3);
+		ring.swapTop();
+
+		assertRing(ring, 2, 1, 3);
+	}
+
+	@Test
+	public void should_rotate_full_ring_in_both_directions() {
+
+		var ring = ringOf(4, 1, 2, 3, 4);
+
+		ring.rotateUp();
+		assertRing(ring, 2, 3, 4, 1);
+
+		ring.rotateDown();
+		ring.rotateDown();
+		assertRing(ring, 4, 1, 2, 3);
+	}
+
+	@Test
+	public void should_rotate_partially_filled_ring_across_array_end() {
+
+		var ring = ringOf(8, 1, 2, 3);
+
+		for (int i = 0; i < 10; i++) {
+			ring.rotateUp();
+		}
+
+		assertRing(ring, 2, 3, 1);
+
+		for (int i = 0; i < 10; i++) {
+			ring.rotateDown();
+		}
+
+		assertRing(ring, 1, 2, 3);
+	}
+
+	@Test
+	public void should_grow_when_pushing_beyond_capacity() {
+
+		var ring = ringOf(1, 1, 2);
+		ring.rotateUp();
+		ring.push(3);
+		ring.push(4);
+
+		assertRing(ring, 4, 3, 2, 1);
+	}
+
+	@Test
+	public void should_fork_independent_copy_across_chunks() {
+
+		var ring = new IntRing(4096);
+		for (int i = 0; i < 3000; i++) {
+			ring.push(i);
+		}
+
+		var fork = ring.fork();
+
+		for (int i = 0; i < 1500; i++) {
+			ring.rotateUp();
+			fork.rotateDown();
+		}
+		ring.swapTop();
+		fork.push(-1);
+
+		assertEquals(3000, ring.size());
+		assertEquals(3001, fork.size());
+		assertEquals(1498, ring.get(0));
+		assertEquals(1499, ring.get(1));
+		assertEquals(-1, fork.get(0));
+		assertEquals(1499, fork.get(1));
+		assertEquals(ring.countBreaks(), ring.breaks());
+		assertEquals(fork.countBreaks(), fork.breaks());
+	}
+
+	@Test
+	public void should_fork_concurrently_and_copy_source_chunks_on_write() {
+
+		var ring = new IntRing(4096);
+		for (int i = 0; i < 3000; i++) {
+			ring.push(i);
+		}
+
+		var forks = IntStream.range(0, 64).parallel()
+				.mapToObj(i -> ring.fork())
+				.collect(Collectors.toList());
+
+		for (int i = 0; i < 3000; i++) {
+			ring.pop();
+		}
+		ring.push(-1);
+
+		assertEquals(-1, ring.get(0));
+		for (var fork : forks) {
+			assertEquals(3000, fork.size());
+			assertEquals(2999, fork.get(0));
+			assertEquals(0, fork.get(2999));
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package br.dev.gawbsouza.pushswap.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class MovementLogTest {
+
+	private static final Movements[] MOVEMENTS = Movements.values();
+
+	@Test
+	public void should_be_empty_when_created() {
+
+		var log = new MovementLog();
+
+		assertEquals(0, log.size());
+		assertFalse(log.iterator().hasNext());
+		assertEquals(0, log.asList().size());
+	}
+
+	@Test
+	public void should_keep_every_movement_across_chunks() {
+
+		var log = new MovementLog();
+		int total = 100_000;
+
+		for (int i = 0; i < total; i++) {
+			log.add(MOVEMENTS[i % MOVEMENTS.length]);
+		}
+
+		assertEquals(total, log.size());
+
+		for (int i = 0; i < total; i++) {
+			assertEquals(MOVEMENTS[i % MOVEMENTS.length], log.get(i));
+		}
+
+		int index = 0;
+		for (Movements movement : log) {
+			assertEquals(MOVEMENTS[index % MOVEMENTS.length], movement);
+			index++;
+		}
+
+		assertEquals(total, index);
+	}
+
+	@Test
+	public void should_list_view_reflect_new_movements() {
+
+		var log = new MovementLog();
+		var view = log.asList();
+
+		log.add(Movements.RRR);
+		log.add(Movements.PB);
+
+		assertEquals(2, view.size());
+		assertEquals(Movements.RRR, view.get(0));
+		assertEquals(Movements.PB, view.get(1));
+	}
+
+	@Test
+	public void should_iterator_see_movements_added_to_current_word() {
+
+		var log = new MovementLog();
+		log.add(Movements.RA);
+
+		var iterator = log.iterator();
+		assertEquals(Movements.RA, iterator.next());
+
+		log.add(Movements.RRB);
+		assertEquals(Movements.RRB, iterator.next());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+	}
+
+	@Test
+	public void should_iterator_fail_fast_after_removal() {
+
+		var log = new MovementLog();
+		log.add(Movements.RA);
+		log.add(Movements.RB);
+
+		var iterator = log.iterator();
+		assertEquals(Movements.RA, iterator.next());
+
+		log.removeLast();
+		log.add(Movements.SA);
+		assertThrows(ConcurrentModificationException.class, iterator::next);
+	}
+
+	@Test
+	public void should_throw_when_index_is_out_of_bounds() {
+
+		var log = new MovementLog();
+		log.add(Movements.SA);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> log.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> log.get(-1));
+	}
+
+	@Test
+	public void should_append_in_bulk_across_words() {
+
+		var log = new MovementLog();
+		var movements = new Movements[40];
+		var codes = new byte[40];
+
+		for (int i = 0; i < movements.length; i++) {
+			movements[i] = MOVEMENTS[(i * 7) % MOVEMENTS.length];
+			codes[i] = (byte) movements[i].ordinal();
+		}
+
+		log.add(Movements.SS);
+		log.addAll(movements, 0, 20);
+		log.addAll(codes, 20, 40);
+
+		assertEquals(41, log.size());
+		assertEquals(Movements.SS, log.get(0));
+
+		for (int i = 0; i < movements.length; i++) {
+			assertEquals(movements[i], log.get(i + 1));
+		}
+	}
+
+	@Test
+	public void should_reject_invalid_codes_in_bulk() {
+
+		var log = new MovementLog();
+		byte[] codes = {0, 1, 15};
+
+		assertThrows(IllegalArgumentException.class, () -> log.addAll(codes, 0, 3));
+		assertEquals(0, log.size());
+	}
+}
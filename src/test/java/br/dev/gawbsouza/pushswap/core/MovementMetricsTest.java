@@ -0,0 +1,127 @@
+package br.dev.gawbsouza.pushswap.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class MovementMetricsTest {
+
+	@Test
+	public void should_start_without_listener() {
+		var ps = new PushSwap(1, 2);
+		assertSame(MovementListener.NONE, ps.getMovementListener());
+		assertSame(MovementListener.NONE, ps.fork().getMovementListener());
+	}
+
+	@Test
+	public void should_count_movements_and_no_ops() {
+
+		var ps = new PushSwap(3, 2, 1);
+		var metrics = new MovementMetrics();
+		ps.setMovementListener(metrics);
+
+		ps.pa(); // B is empty
+		ps.pb();
+		ps.sb(); // one item on B
+		ps.rr(); // only A rotates
+		ps.rrb(); // one item on B
+		ps.sa();
+
+		assertEquals(6, metrics.getTotalCount());
+		assertEquals(3, metrics.getTotalNoOpCount());
+		assertEquals(1, metrics.getNoOpCount(Movements.PA));
+		assertEquals(1, metrics.getCount(Movements.PB));
+		assertEquals(0, metrics.getNoOpCount(Movements.RR));
+		assertEquals(1, metrics.getNoOpCount(Movements.SB));
+		assertEquals(1, metrics.getNoOpCount(Movements.RRB));
+		assertEquals(0, metrics.getNoOpCount(Movements.SA));
+	}
+
+	@Test
+	public void should_notify_applied_programs_but_not_undo() {
+
+		var ps = new PushSwap(1, 2, 3, 4);
+		var metrics = new MovementMetrics();
+		ps.setMovementListener(metrics);
+
+		ps.apply(new byte[] {4, 4, 4, 1, 3}, 0, 5);
+		ps.undo(5);
+
+		assertEquals(5, metrics.getTotalCount());
+		assertEquals(3, metrics.getCount(Movements.PB));
+		assertEquals(3, metrics.getPeakSizeB());
+	}
+
+	@Test
+	public void should_stop_notifying_when_removed() {
+
+		var ps = new PushSwap(1, 2, 3);
+		var metrics = new MovementMetrics();
+		ps.setMovementListener(metrics);
+		ps.ra();
+		ps.setMovementListener(null);
+		ps.ra();
+
+		assertEquals(1, metrics.getCount(Movements.RA));
+		assertSame(MovementListener.NONE, ps.getMovementListener());
+	}
+
+	@Test
+	public void should_time_phases() {
+
+		var ps = new PushSwap(1, 2, 3);
+		var metrics = new MovementMetrics();
+		ps.setMovementListener(metrics);
+
+		ps.startPhase("push");
+		ps.pb();
+		ps.endPhase("push");
+		ps.startPhase("push");
+		ps.pa();
+		ps.endPhase("push");
+
+		assertTrue(metrics.getPhaseNanos("push") > 0);
+		assertEquals(1, metrics.getPhaseNanos().size());
+		assertEquals(0, metrics.getPhaseNanos("insert"));
+		assertThrows(IllegalStateException.class, () -> ps.endPhase("insert"));
+	}
+
+	@Test
+	public void should_time_nested_phases_with_the_same_name_once() {
+
+		var ps = new PushSwap(1, 2, 3);
+		var metrics = new MovementMetrics();
+		ps.setMovementListener(metrics);
+
+		ps.startPhase("push");
+		ps.startPhase("insert");
+		ps.startPhase("push");
+		ps.pb();
+		ps.endPhase("push");
+
+		assertEquals(0, metrics.getPhaseNanos("push"));
+
+		ps.endPhase("insert");
+		ps.endPhase("push");
+
+		assertTrue(metrics.getPhaseNanos("push") >= metrics.getPhaseNanos("insert"));
+		assertTrue(metrics.getPhaseNanos("insert") > 0);
+		assertThrows(IllegalStateException.class, () -> ps.endPhase("push"));
+	}
+
+	@Test
+	public void should_reset_metrics() {
+
+		var ps = new PushSwap(1, 2, 3);
+		var metrics = new MovementMetrics();
+		ps.setMovementListener(metrics);
+		ps.pb();
+		metrics.reset();
+
+		assertEquals(0, metrics.getTotalCount());
+		assertEquals(0, metrics.getPeakSizeB());
+	}
+}
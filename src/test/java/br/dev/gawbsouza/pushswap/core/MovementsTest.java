@@ -1,7 +1,12 @@
 package br.dev.gawbsouza.pushswap.core;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class MovementsTest {
@@ -21,5 +26,42 @@ public class MovementsTest {
 		assertEquals("rrb", Movements.RRB.toString());
 		assertEquals("rrr", Movements.RRR.toString());
 	}
-	
+
+	@Test
+	public void should_parse_every_movement_from_its_name() {
+
+		for (Movements movement : Movements.values()) {
+			var bytes = movement.toString().getBytes(StandardCharsets.US_ASCII);
+
+			assertEquals(movement.ordinal(), Movements.codeOf(bytes, 0, bytes.length));
+			assertEquals(movement, Movements.ofCode(movement.ordinal()));
+		}
+	}
+
+	@Test
+	public void should_return_invalid_code_for_unknown_names() {
+
+		var bytes = "xrra rrrr RA  s".getBytes(StandardCharsets.US_ASCII);
+
+		assertEquals(Movements.INVALID, Movements.codeOf(bytes, 0, 4));
+		assertEquals(Movements.INVALID, Movements.codeOf(bytes, 5, 9));
+		assertEquals(Movements.INVALID, Movements.codeOf(bytes, 10, 12));
+		assertEquals(Movements.INVALID, Movements.codeOf(bytes, 14, 15));
+		assertEquals(Movements.INVALID, Movements.codeOf(bytes, 0, 0));
+		assertEquals(Movements.INVALID, Movements.codeOf(new byte[] { 0, 's', 'a' }, 0, 3));
+		assertEquals(Movements.INVALID, Movements.codeOf(new byte[] { 'r', 0, 'a' }, 0, 3));
+	}
+
+	@Test
+	public void should_encode_lower_case_name_into_buffer() {
+
+		var buffer = ByteBuffer.allocate(8);
+		Movements.RRB.encodeTo(buffer);
+		Movements.SS.encodeTo(buffer);
+
+		assertEquals(3, Movements.RRB.encodedLength());
+		assertEquals(2, Movements.SS.encodedLength());
+		assertArrayEquals("rrbss".getBytes(StandardCharsets.US_ASCII), 
+				Arrays.copyOf(buffer.array(), buffer.position()));
+	}
 }
@@ -1,11 +1,18 @@
 package br.dev.gawbsouza.pushswap.core;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.Random;
 import java.util.Stack;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -248,8 +255,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(4);
 			ps.pa();
@@ -270,8 +276,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(4);
 			ps.pa();
@@ -292,8 +297,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(5);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(4);
 			ps.pa();
@@ -338,8 +342,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(1);
 			ps.sb();
@@ -356,8 +359,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(2);
 			stackB.push(1);
@@ -376,8 +378,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(3);
 			stackB.push(2);
@@ -421,8 +422,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(5);
 			ps.rb();
@@ -439,8 +439,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(5);
 			stackB.push(4);
@@ -459,8 +458,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(6);
 			stackB.push(5);
@@ -505,8 +503,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(5);
 			stackB.push(4);
@@ -525,8 +522,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap();
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(6);
 			stackB.push(5);
@@ -598,8 +594,7 @@ public class PushSwapTest {
 			Field stackBField = PushSwap.class.getDeclaredField("b");
 			stackBField.setAccessible(true);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(4);
 			ps.pb();
@@ -643,8 +638,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(5);
 			ps.ss();
@@ -662,8 +656,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4, 5);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(7);
 			stackB.push(6);
@@ -685,8 +678,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4, 5, 6);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(8);
 			stackB.push(7);
@@ -736,8 +728,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(5);
 			ps.rr();
@@ -755,8 +746,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4, 5);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(7);
 			stackB.push(6);
@@ -778,8 +768,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4, 5, 6);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(8);
 			stackB.push(7);
@@ -827,8 +816,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(5);
 			ps.rrr();
@@ -846,8 +834,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4, 5);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(7);
 			stackB.push(6);
@@ -869,8 +856,7 @@ public class PushSwapTest {
 			
 			var ps = new PushSwap(4, 5, 6);
 			
-			@SuppressWarnings("unchecked")
-			Stack<Integer> stackB = (Stack<Integer>) stackBField.get(ps);
+			IntRing stackB = (IntRing) stackBField.get(ps);
 			
 			stackB.push(8);
 			stackB.push(7);
@@ -941,4 +927,602 @@ public class PushSwapTest {
 		
 	}
 	
+	@Nested
+	public class ReadAccessorsTest {
+		
+		@Test
+		public void should_read_sizes_of_both_stacks() {
+			
+			var ps = new PushSwap(4, 5, 6);
+			ps.pb();
+			
+			assertEquals(2, ps.sizeA());
+			assertEquals(1, ps.sizeB());
+		}
+		
+		@Test
+		public void should_peek_items_by_depth_from_top() {
+			
+			var ps = new PushSwap(4, 5, 6, 7);
+			ps.ra();
+			ps.pb();
+			
+			assertEquals(6, ps.peekA(0));
+			assertEquals(7, ps.peekA(1));
+			assertEquals(4, ps.peekA(2));
+			assertEquals(5, ps.peekB(0));
+		}
+		
+		@Test
+		public void should_read_top_and_bottom_items() {
+			
+			var ps = new PushSwap(4, 5, 6);
+			ps.pb();
+			ps.pb();
+			
+			assertEquals(6, ps.topA());
+			assertEquals(6, ps.bottomA());
+			assertEquals(5, ps.topB());
+			assertEquals(4, ps.bottomB());
+		}
+		
+		@Test
+		public void should_throw_when_reading_empty_stack() {
+			
+			var ps = new PushSwap(4);
+			
+			assertThrows(EmptyStackException.class, () -> ps.topB());
+			assertThrows(EmptyStackException.class, () -> ps.bottomB());
+			assertThrows(IndexOutOfBoundsException.class, () -> ps.peekA(1));
+			assertThrows(IndexOutOfBoundsException.class, () -> ps.peekA(-1));
+		}
+		
+		@Test
+		public void should_traverse_items_from_top_to_bottom() {
+			
+			var ps = new PushSwap(4, 5, 6);
+			ps.rra();
+			var items = new ArrayList<Integer>();
+			ps.forEachA(items::add);
+			
+			assertArrayEquals(new int[] {6, 4, 5}, ps.streamA().toArray());
+			assertEquals(List.of(6, 4, 5), items);
+			assertEquals(0, ps.streamB().count());
+		}
+	}
+	
+	@Nested
+	public class OrderCounterTest {
+		
+		@Test
+		public void should_be_solved_when_stacka_is_ordered_and_stackb_is_empty() {
+			
+			assertTrue(new PushSwap().isSolved());
+			assertTrue(new PushSwap(1, 2, 3).isSolved());
+			assertFalse(new PushSwap(2, 1, 3).isSolved());
+		}
+		
+		@Test
+		public void should_not_be_solved_when_stackb_has_items() {
+			
+			var ps = new PushSwap(1, 2, 3);
+			ps.pb();
+			
+			assertTrue(ps.isAOrdered());
+			assertFalse(ps.isSolved());
+		}
+		
+		@Test
+		public void should_stackb_be_ordered_when_descending() {
+			
+			var ps = new PushSwap(1, 2, 3);
+			ps.pb();
+			ps.pb();
+			
+			assertTrue(ps.isBOrdered());
+			
+			ps.sb();
+			
+			assertFalse(ps.isBOrdered());
+		}
+		
+		@Test
+		public void should_keep_counters_consistent_with_random_movements() {
+			
+			var random = new Random(42);
+			var ps = new PushSwap(5, 3, 8, 1, 9, 2, 7);
+			
+			for (int i = 0; i < 5_000; i++) {
+				
+				switch (random.nextInt(11)) {
+				case 0: ps.sa(); break;
+				case 1: ps.sb(); break;
+				case 2: ps.ss(); break;
+				case 3: ps.pa(); break;
+				case 4: ps.pb(); break;
+				case 5: ps.ra(); break;
+				case 6: ps.rb(); break;
+				case 7: ps.rr(); break;
+				case 8: ps.rra(); break;
+				case 9: ps.rrb(); break;
+				default: ps.rrr(); break;
+				}
+				
+				var stackB = ps.getStackB();
+				Collections.reverse(stackB);
+				
+				assertEquals(PushSwap.isStackOrdered(ps.getStackA()), ps.isAOrdered());
+				assertEquals(PushSwap.isStackOrdered(stackB), ps.isBOrdered());
+			}
+		}
+	}
+	
+	@Nested
+	public class NormalizedTest {
+		
+		@Test
+		public void should_not_be_normalized_when_constructed() {
+			
+			var ps = new PushSwap(4, 5, 6);
+			
+			assertFalse(ps.isNormalized());
+			assertThrows(IllegalStateException.class, () -> ps.rankOf(4));
+			assertThrows(IllegalStateException.class, () -> ps.peekRankA(0));
+		}
+		
+		@Test
+		public void should_reject_duplicated_numbers() {
+			assertThrows(IllegalArgumentException.class, 
+					() -> PushSwap.normalized(3, -7, 42, -7));
+		}
+		
+		@Test
+		public void should_keep_ranks_and_original_values() {
+			
+			var ps = PushSwap.normalized(42, -7, 1000, 3);
+			
+			assertTrue(ps.isNormalized());
+			assertArrayEquals(new int[] {42, -7, 1000, 3}, ps.streamA().toArray());
+			assertEquals(2, ps.peekRankA(0));
+			assertEquals(0, ps.peekRankA(1));
+			assertEquals(3, ps.peekRankA(2));
+			assertEquals(1, ps.peekRankA(3));
+		}
+		
+		@Test
+		public void should_map_between_ranks_and_values() {
+			
+			var ps = PushSwap.normalized(42, -7, 1000, 3);
+			
+			assertEquals(0, ps.rankOf(-7));
+			assertEquals(3, ps.rankOf(1000));
+			assertEquals(42, ps.valueOfRank(2));
+			assertThrows(IllegalArgumentException.class, () -> ps.rankOf(5));
+		}
+		
+		@Test
+		public void should_execute_movements_over_ranks() {
+			
+			var ps = PushSwap.normalized(42, -7, 1000);
+			ps.sa();
+			ps.pb();
+			
+			assertEquals(-7, ps.topB());
+			assertEquals(0, ps.peekRankB(0));
+			assertEquals(42, ps.topA());
+			assertEquals(1000, ps.getStackA().firstElement());
+			assertTrue(ps.isAOrdered());
+			
+			ps.pa();
+			
+			assertTrue(ps.isSolved());
+		}
+	}
+	
+	@Nested
+	public class ApplyTest {
+		
+		private final Movements[] program = {
+			Movements.PB, Movements.PB, Movements.RA, Movements.RRB, Movements.SS,
+			Movements.RR, Movements.PA, Movements.RRR, Movements.SA, Movements.PA
+		};
+		
+		private byte[] encoded() {
+			var codes = new byte[program.length];
+			for (int i = 0; i < program.length; i++) {
+				codes[i] = (byte) program[i].ordinal();
+			}
+			return codes;
+		}
+		
+		@Test
+		public void should_apply_same_movements_as_individual_calls() {
+			
+			var expected = new PushSwap(5, 3, 8, 1, 9);
+			var fromValues = new PushSwap(5, 3, 8, 1, 9);
+			var fromCodes = new PushSwap(5, 3, 8, 1, 9);
+			
+			for (var movement : program) {
+				expected.execute(movement);
+			}
+			
+			fromValues.apply(program, 0, program.length);
+			fromCodes.apply(encoded(), 0, program.length);
+			
+			assertEquals(expected.getStackA(), fromValues.getStackA());
+			assertEquals(expected.getStackB(), fromValues.getStackB());
+			assertEquals(expected.getMovements(), fromValues.getMovements());
+			assertEquals(expected.getStackA(), fromCodes.getStackA());
+			assertEquals(expected.getMovements(), fromCodes.getMovements());
+		}
+		
+		@Test
+		public void should_apply_only_the_given_range() {
+			
+			var ps = new PushSwap(1, 2, 3);
+			ps.apply(program, 1, 3);
+			
+			assertEquals(List.of(Movements.PB, Movements.RA), ps.getMovements());
+			assertArrayEquals(new int[] {3, 2}, ps.streamA().toArray());
+		}
+		
+		@Test
+		public void should_not_record_when_logging_is_skipped() {
+			
+			var ps = new PushSwap(2, 1);
+			ps.apply(encoded(), 8, 9, false);
+			
+			assertTrue(ps.isSolved());
+			assertEquals(0, ps.getMovements().size());
+		}
+		
+		@Test
+		public void should_stop_at_invalid_code() {
+			
+			var ps = new PushSwap(2, 1, 3);
+			byte[] codes = {(byte) Movements.SA.ordinal(), 11, (byte) Movements.RA.ordinal()};
+			
+			assertThrows(IllegalArgumentException.class, () -> ps.apply(codes, 0, 3));
+			assertEquals(List.of(Movements.SA), ps.getMovements());
+			assertTrue(ps.isSolved());
+		}
+	}
+	
+	@Nested
+	public class UndoTest {
+		
+		private final Movements[] movements = Movements.values();
+		
+		@Test
+		public void should_throw_when_there_is_nothing_to_undo() {
+			
+			var ps = new PushSwap(1, 2);
+			
+			assertThrows(IllegalStateException.class, () -> ps.undo());
+			assertThrows(IllegalStateException.class, () -> ps.undo(1));
+		}
+		
+		@Test
+		public void should_undo_push_executed_with_empty_source_stack() {
+			
+			var ps = new PushSwap(1, 2);
+			ps.pa();
+			
+			assertEquals(List.of(Movements.PA), ps.getMovements());
+			
+			ps.undo();
+			
+			assertArrayEquals(new int[] {1, 2}, ps.streamA().toArray());
+			assertEquals(0, ps.sizeB());
+			assertEquals(0, ps.getMovements().size());
+		}
+		
+		@Test
+		public void should_undo_last_movements_only() {
+			
+			var ps = new PushSwap(4, 5, 6);
+			ps.pb();
+			ps.ra();
+			ps.sa();
+			ps.undo(2);
+			
+			assertEquals(List.of(Movements.PB), ps.getMovements());
+			assertArrayEquals(new int[] {5, 6}, ps.streamA().toArray());
+			assertArrayEquals(new int[] {4}, ps.streamB().toArray());
+		}
+		
+		@Test
+		public void should_restore_every_state_of_random_movements() {
+			
+			var random = new Random(7);
+			var ps = new PushSwap(5, 3, 8, 1, 9, 2);
+			var statesA = new ArrayList<Stack<Integer>>();
+			var statesB = new ArrayList<Stack<Integer>>();
+			
+			for (int i = 0; i < 2_000; i++) {
+				statesA.add(ps.getStackA());
+				statesB.add(ps.getStackB());
+				ps.execute(movements[random.nextInt(movements.length)]);
+			}
+			
+			byte[] program = {3, 3, 4, 4, 4, 3, 4, 4, 4, 4, 4, 4, 4, 4, 3};
+			ps.apply(program, 0, program.length);
+			ps.undo(program.length);
+			
+			for (int i = statesA.size() - 1; i >= 0; i--) {
+				ps.undo();
+				assertEquals(statesA.get(i), ps.getStackA());
+				assertEquals(statesB.get(i), ps.getStackB());
+				assertEquals(i, ps.getMovements().size());
+			}
+		}
+	}
+	
+	@Nested
+	public class ForkTest {
+		
+		private final Movements[] movements = Movements.values();
+		
+		@Test
+		public void should_fork_same_stacks_and_movements() {
+			
+			var ps = PushSwap.normalized(4, 5, 6);
+			ps.pb();
+			ps.ra();
+			var fork = ps.fork();
+			
+			assertTrue(fork.isNormalized());
+			assertEquals(ps.getStackA(), fork.getStackA());
+			assertEquals(ps.getStackB(), fork.getStackB());
+			assertEquals(ps.getMovements(), fork.getMovements());
+		}
+		
+		@Test
+		public void should_keep_parent_and_fork_independent() {
+			
+			var random = new Random(11);
+			var numbers = random.ints(3_000).distinct().toArray();
+			var parent = new PushSwap(numbers);
+			var twin = new PushSwap(numbers);
+			
+			for (int i = 0; i < 5_000; i++) {
+				var movement = movements[random.nextInt(movements.length)];
+				parent.execute(movement);
+				twin.execute(movement);
+			}
+			
+			var fork = parent.fork();
+			var forkTwin = new PushSwap(numbers);
+			forkTwin.apply(parent.getMovements().toArray(new Movements[0]), 0, 5_000);
+			
+			for (int i = 0; i < 5_000; i++) {
+				var parentMovement = movements[random.nextInt(movements.length)];
+				var forkMovement = movements[random.nextInt(movements.length)];
+				parent.execute(parentMovement);
+				twin.execute(parentMovement);
+				fork.execute(forkMovement);
+				forkTwin.execute(forkMovement);
+			}
+			
+			fork.undo(100);
+			forkTwin.undo(100);
+			
+			assertEquals(twin.getStackA(), parent.getStackA());
+			assertEquals(twin.getStackB(), parent.getStackB());
+			assertEquals(twin.getMovements(), parent.getMovements());
+			assertEquals(forkTwin.getStackA(), fork.getStackA());
+			assertEquals(forkTwin.getStackB(), fork.getStackB());
+			assertEquals(forkTwin.getMovements(), fork.getMovements());
+			assertEquals(PushSwap.isStackOrdered(fork.getStackA()), fork.isAOrdered());
+		}
+		
+		@Test
+		public void should_fork_a_fork() {
+			
+			var ps = new PushSwap(3, 1, 2);
+			var first = ps.fork();
+			first.ra();
+			var second = first.fork();
+			second.rra();
+			ps.sa();
+			
+			assertArrayEquals(new int[] {1, 3, 2}, ps.streamA().toArray());
+			assertArrayEquals(new int[] {1, 2, 3}, first.streamA().toArray());
+			assertArrayEquals(new int[] {3, 1, 2}, second.streamA().toArray());
+			assertEquals(2, second.getMovements().size());
+		}
+	}
+	
+	@Nested
+	public class StateHashTest {
+		
+		private final Movements[] movements = Movements.values();
+		
+		@Test
+		public void should_update_hash_incrementally_on_every_movement() {
+			
+			var random = new Random(15);
+			var ps = new PushSwap(random.ints(500).distinct().toArray());
+			
+			for (int i = 0; i < 20_000; i++) {
+				ps.execute(movements[random.nextInt(movements.length)]);
+				ps.stateHash(); // debug mode cross-checks it against a full scan
+			}
+			
+			ps.undo(20_000);
+			ps.stateHash();
+		}
+		
+		@Test
+		public void should_have_same_hash_for_same_state_reached_by_different_movements() {
+			
+			var first = new PushSwap(3, 1, 2, 5, 4);
+			first.ra();
+			first.pb();
+			first.pb();
+			
+			var second = new PushSwap(3, 1, 2, 5, 4);
+			second.ra();
+			second.ra();
+			second.pb();
+			second.rra();
+			second.pb();
+			second.sb();
+			
+			assertEquals(first.stateHash(), second.stateHash());
+			assertTrue(first.stateEquals(second));
+			assertTrue(second.stateEquals(first));
+		}
+		
+		@Test
+		public void should_tell_rotated_states_apart() {
+			
+			var ps = new PushSwap(1, 2, 3);
+			var rotated = ps.fork();
+			rotated.ra();
+			
+			assertFalse(ps.stateHash() == rotated.stateHash());
+			assertFalse(ps.stateEquals(rotated));
+			
+			rotated.rra();
+			
+			assertEquals(ps.stateHash(), rotated.stateHash());
+			assertTrue(ps.stateEquals(rotated));
+		}
+		
+		@Test
+		public void should_tell_stacks_apart() {
+			
+			var onA = new PushSwap(7);
+			var onB = new PushSwap(7);
+			onB.pb();
+			
+			assertFalse(onA.stateHash() == onB.stateHash());
+			assertFalse(onA.stateEquals(onB));
+		}
+		
+		@Test
+		public void should_not_equal_games_with_different_numbers() {
+			
+			var plain = new PushSwap(0, 1, 2);
+			var normalized = PushSwap.normalized(0, 1, 2);
+			var other = PushSwap.normalized(10, 11, 12);
+			
+			assertFalse(plain.stateEquals(normalized));
+			assertFalse(normalized.stateEquals(other));
+			assertTrue(normalized.stateEquals(PushSwap.normalized(0, 1, 2)));
+		}
+	}
+	
+	@Nested
+	public class RecordingTest {
+		
+		private void play(PushSwap ps) {
+			ps.pb();
+			ps.pb();
+			ps.rr();
+			ps.sa();
+			ps.pa();
+		}
+		
+		@Test
+		public void should_record_full_log_by_default() {
+			
+			var ps = new PushSwap(3, 1, 2, 0);
+			play(ps);
+			
+			assertEquals(Recording.FULL, ps.getRecording());
+			assertEquals(5, ps.getMovements().size());
+			assertEquals(5, ps.getMovementCount());
+		}
+		
+		@Test
+		public void should_only_count_movements() {
+			
+			var full = new PushSwap(3, 1, 2, 0);
+			var counted = new PushSwap(3, 1, 2, 0);
+			counted.setRecording(Recording.COUNT);
+			play(full);
+			play(counted);
+			counted.apply(new byte[] { 5, 8 }, 0, 2);
+			counted.apply(new byte[] { 5, 8 }, 0, 2, false);
+			
+			assertEquals(0, counted.getMovements().size());
+			assertEquals(7, counted.getMovementCount());
+			assertTrue(full.stateEquals(counted));
+		}
+		
+		@Test
+		public void should_neither_log_nor_count_movements() {
+			
+			var full = new PushSwap(3, 1, 2, 0);
+			var simulated = new PushSwap(3, 1, 2, 0);
+			simulated.setRecording(Recording.NONE);
+			play(full);
+			play(simulated);
+			simulated.apply(new Movements[] { Movements.RA }, 0, 1);
+			full.ra();
+			
+			assertEquals(0, simulated.getMovements().size());
+			assertEquals(0, simulated.getMovementCount());
+			assertTrue(full.stateEquals(simulated));
+		}
+		
+		@Test
+		public void should_keep_logged_movements_when_switching_level() {
+			
+			var ps = new PushSwap(3, 1, 2, 0);
+			ps.pb();
+			ps.setRecording(Recording.COUNT);
+			ps.pb();
+			ps.ra();
+			
+			var fork = ps.fork();
+			fork.rb();
+			
+			assertEquals(List.of(Movements.PB), ps.getMovements());
+			assertEquals(3, ps.getMovementCount());
+			assertEquals(Recording.COUNT, fork.getRecording());
+			assertEquals(4, fork.getMovementCount());
+		}
+		
+		@Test
+		public void should_undo_only_with_full_recording() {
+			
+			var ps = new PushSwap(3, 1, 2, 0);
+			ps.pb();
+			ps.setRecording(Recording.COUNT);
+			
+			assertThrows(IllegalStateException.class, () -> ps.undo());
+			assertThrows(IllegalStateException.class, () -> ps.undo(1));
+			
+			ps.setRecording(Recording.FULL);
+			ps.undo();
+			
+			assertEquals(4, ps.sizeA());
+		}
+		
+		@Test
+		public void should_not_undo_past_movements_missing_from_the_log() {
+			
+			var ps = new PushSwap(1, 2, 3);
+			ps.ra();
+			ps.setRecording(Recording.COUNT);
+			ps.sa();
+			ps.setRecording(Recording.FULL);
+			
+			assertThrows(IllegalStateException.class, () -> ps.undo());
+			assertThrows(IllegalStateException.class, () -> ps.undo(1));
+			assertEquals(List.of(1, 2, 3), ps.getStackA());
+			
+			ps.rb();
+			ps.apply(new Movements[] { Movements.SA }, 0, 1, false);
+			ps.pb();
+			ps.undo();
+			
+			assertEquals(List.of(1, 3, 2), ps.getStackA());
+			assertThrows(IllegalStateException.class, () -> ps.undo());
+		}
+	}
+	
 }
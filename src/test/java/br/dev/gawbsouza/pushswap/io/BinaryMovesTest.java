@@ -0,0 +1,101 @@
+package br.dev.gawbsouza.pushswap.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.MovementLog;
+import br.dev.gawbsouza.pushswap.core.Movements;
+
+public class BinaryMovesTest {
+
+	private static byte[] write(MovementLog log) throws IOException {
+		var output = new ByteArrayOutputStream();
+		BinaryMoves.write(log, Channels.newChannel(output));
+		return output.toByteArray();
+	}
+
+	private static MovementLog read(byte[] bytes) throws IOException {
+		return BinaryMoves.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+	}
+
+	private static MovementLog logOf(int size) {
+		var log = new MovementLog();
+		for (int i = 0; i < size; i++) {
+			log.add(Movements.ofCode((i * 7 + i / 3) % Movements.values().length));
+		}
+		return log;
+	}
+
+	@Test
+	public void should_write_header_and_two_movements_per_byte() throws Exception {
+
+		var log = new MovementLog();
+		log.add(Movements.PB);
+		log.add(Movements.RRR);
+		log.add(Movements.SA);
+
+		var bytes = write(log);
+		var header = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+		assertEquals(BinaryMoves.HEADER_BYTES + 2, bytes.length);
+		assertEquals('P', bytes[0]);
+		assertEquals('S', bytes[1]);
+		assertEquals('M', bytes[2]);
+		assertEquals('V', bytes[3]);
+		assertEquals(BinaryMoves.VERSION, header.getInt(4));
+		assertEquals(3, header.getInt(8));
+		assertEquals((byte) 0xA4, bytes[12]);
+		assertEquals((byte) 0x00, bytes[13]);
+	}
+
+	@Test
+	public void should_read_back_written_movements() throws Exception {
+
+		for (int size : new int[] { 0, 1, 2, 17, 131_073, 300_001 }) {
+			var log = logOf(size);
+			assertEquals(log.asList(), read(write(log)).asList());
+		}
+	}
+
+	@Test
+	public void should_reject_wrong_magic_or_version() throws Exception {
+
+		var bytes = write(logOf(4));
+
+		var badMagic = bytes.clone();
+		badMagic[0] = 'X';
+		assertThrows(IllegalArgumentException.class, () -> read(badMagic));
+
+		var badVersion = bytes.clone();
+		badVersion[4] = 2;
+		assertThrows(IllegalArgumentException.class, () -> read(badVersion));
+	}
+
+	@Test
+	public void should_reject_invalid_movement_code() throws Exception {
+
+		var bytes = write(logOf(2));
+		bytes[BinaryMoves.HEADER_BYTES] = (byte) 0xF0;
+
+		assertThrows(IllegalArgumentException.class, () -> read(bytes));
+	}
+
+	@Test
+	public void should_fail_when_file_ends_early() throws Exception {
+
+		var bytes = write(logOf(100));
+
+		assertThrows(IOException.class, () -> read(Arrays.copyOf(bytes, bytes.length - 1)));
+		assertThrows(IOException.class, () -> read(Arrays.copyOf(bytes, 5)));
+	}
+}
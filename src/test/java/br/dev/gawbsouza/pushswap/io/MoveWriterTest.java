@@ -0,0 +1,67 @@
+package br.dev.gawbsouza.pushswap.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.MovementLog;
+import br.dev.gawbsouza.pushswap.core.Movements;
+
+public class MoveWriterTest {
+
+	@Test
+	public void should_write_one_movement_per_line() throws Exception {
+
+		var output = new ByteArrayOutputStream();
+		var writer = new MoveWriter(Channels.newChannel(output));
+
+		writer.write(Movements.PB);
+		writer.write(List.of(Movements.RRA, Movements.SS));
+		writer.flush();
+
+		assertEquals("pb\nrra\nss\n", output.toString(StandardCharsets.US_ASCII.name()));
+	}
+
+	@Test
+	public void should_drain_buffer_when_full() throws Exception {
+
+		var output = new ByteArrayOutputStream();
+		var writer = new MoveWriter(Channels.newChannel(output), 5);
+		var log = new MovementLog();
+		var expected = new StringBuilder();
+
+		for (int i = 0; i < 1000; i++) {
+			var movement = Movements.ofCode(i % Movements.values().length);
+			log.add(movement);
+			expected.append(movement).append('\n');
+		}
+
+		writer.write(log);
+		writer.flush();
+
+		assertEquals(expected.toString(), output.toString(StandardCharsets.US_ASCII.name()));
+	}
+
+	@Test
+	public void should_not_write_before_flush_when_buffer_has_room() throws Exception {
+
+		var output = new ByteArrayOutputStream();
+		var writer = new MoveWriter(Channels.newChannel(output));
+
+		writer.write(Movements.RA);
+
+		assertEquals(0, output.size());
+	}
+
+	@Test
+	public void should_reject_buffer_smaller_than_a_line() {
+		assertThrows(IllegalArgumentException.class, 
+				() -> new MoveWriter(Channels.newChannel(new ByteArrayOutputStream()), 3));
+	}
+}
@@ -0,0 +1,103 @@
+package br.dev.gawbsouza.pushswap.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.MovementLog;
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class PeepholeOptimizerTest {
+
+	private static final Movements[] MOVEMENTS = Movements.values();
+
+	private static MovementLog optimize(int sizeA, Movements... movements) {
+		return PeepholeOptimizer.optimize(sizeA, 0, List.of(movements));
+	}
+
+	@Test
+	public void should_merge_rotations_and_swaps_of_both_stacks() {
+
+		var optimized = PeepholeOptimizer.optimize(3, 3, 
+				List.of(Movements.RA, Movements.RB, Movements.RRA, Movements.RRB, 
+						Movements.RRB, Movements.RRA, Movements.SA, Movements.SB));
+
+		assertEquals(List.of(Movements.RRR, Movements.SS), optimized.asList());
+	}
+
+	@Test
+	public void should_cancel_inverse_movements() {
+
+		var optimized = optimize(5, Movements.PB, Movements.RA, Movements.SA, 
+				Movements.SA, Movements.RRA, Movements.PA);
+
+		assertEquals(0, optimized.size());
+	}
+
+	@Test
+	public void should_drop_movements_without_effect() {
+
+		var optimized = optimize(1, Movements.SA, Movements.PA, Movements.RA, 
+				Movements.RRR, Movements.SS, Movements.PB, Movements.SB, Movements.RB);
+
+		assertEquals(List.of(Movements.PB), optimized.asList());
+	}
+
+	@Test
+	public void should_replace_long_rotation_runs() {
+
+		var optimized = optimize(5, Movements.RA, Movements.RA, Movements.RA, 
+				Movements.RA);
+
+		assertEquals(List.of(Movements.RRA), optimized.asList());
+	}
+
+	@Test
+	public void should_report_saved_movements() {
+
+		var optimized = new MovementLog();
+		var optimizer = new PeepholeOptimizer(3, 0, optimized::add);
+
+		optimizer.accept(Movements.RA);
+		optimizer.accept(Movements.RRA);
+		optimizer.accept(Movements.PB);
+		optimizer.finish();
+
+		assertEquals(3, optimizer.getInputMoves());
+		assertEquals(1, optimizer.getOutputMoves());
+		assertEquals(2, optimizer.getSavedMoves());
+	}
+
+	@Test
+	public void should_keep_final_state_of_random_sequences() {
+
+		var random = new Random(42);
+
+		for (int round = 0; round < 200; round++) {
+
+			int size = random.nextInt(8);
+			var numbers = random.ints(size).toArray();
+			var original = new PushSwap(numbers);
+			var replayed = new PushSwap(numbers);
+
+			for (int i = 0, moves = random.nextInt(300); i < moves; i++) {
+				original.execute(MOVEMENTS[random.nextInt(MOVEMENTS.length)]);
+			}
+
+			var optimized = PeepholeOptimizer.optimize(size, 0, original.getMovements());
+
+			for (Movements movement : optimized) {
+				replayed.execute(movement);
+			}
+
+			assertEquals(original.getStackA(), replayed.getStackA());
+			assertEquals(original.getStackB(), replayed.getStackB());
+			assertTrue(optimized.size() <= original.getMovements().size());
+		}
+	}
+}
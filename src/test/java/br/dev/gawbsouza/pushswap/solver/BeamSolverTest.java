@@ -0,0 +1,73 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static br.dev.gawbsouza.pushswap.solver.RadixSolverTest.shuffledNumbers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class BeamSolverTest {
+
+	@Test
+	public void should_reject_invalid_width() {
+		assertThrows(IllegalArgumentException.class, () -> new BeamSolver(0));
+	}
+
+	@Test
+	public void should_reject_game_not_normalized() {
+		assertThrows(IllegalArgumentException.class, 
+				() -> new BeamSolver(4).solve(new PushSwap(3, 2, 1)));
+	}
+
+	@Test
+	public void should_solve_small_inputs() {
+
+		for (int size = 0; size <= 12; size++) {
+			var game = PushSwap.normalized(shuffledNumbers(size, size));
+			var stats = new BeamSolver(4).solve(game);
+			assertTrue(game.isSolved());
+			assertEquals(game.getMovements().size(), stats.getMoves());
+		}
+	}
+
+	@Test
+	public void should_beat_greedy_on_500_items() {
+
+		var beamGame = PushSwap.normalized(shuffledNumbers(500, 7));
+		var greedyGame = PushSwap.normalized(shuffledNumbers(500, 7));
+
+		var beam = new BeamSolver(16).solve(beamGame);
+		var greedy = new GreedySolver().solve(greedyGame);
+
+		assertTrue(beamGame.isSolved());
+		assertTrue(beam.getMoves() < greedy.getMoves(), beam + " should beat " + greedy);
+	}
+
+	@Test
+	public void should_find_same_solution_on_any_pool() {
+
+		var numbers = shuffledNumbers(200, 3);
+		var parallel = PushSwap.normalized(numbers);
+		var sequential = PushSwap.normalized(numbers);
+
+		new BeamSolver(8).solve(parallel);
+		new BeamSolver(new ForkJoinPool(1), 8, 4).solve(sequential);
+
+		assertEquals(sequential.getMovements(), parallel.getMovements());
+	}
+
+	@Test
+	public void should_stop_when_cancelled() {
+
+		var game = PushSwap.normalized(shuffledNumbers(100, 3));
+
+		assertThrows(CancellationException.class, 
+				() -> new BeamSolver(4).solve(game, moves -> moves > 200));
+	}
+}
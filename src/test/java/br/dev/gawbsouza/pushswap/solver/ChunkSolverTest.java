@@ -0,0 +1,65 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static br.dev.gawbsouza.pushswap.solver.RadixSolverTest.shuffledNumbers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class ChunkSolverTest {
+
+	@Test
+	public void should_reject_invalid_parameters() {
+		assertThrows(IllegalArgumentException.class, () -> new ChunkSolver(0, 50));
+		assertThrows(IllegalArgumentException.class, () -> new ChunkSolver(4, 101));
+		assertThrows(IllegalArgumentException.class, () -> ChunkSolver.of(4));
+	}
+
+	@Test
+	public void should_reject_game_not_normalized() {
+		assertThrows(IllegalArgumentException.class, 
+				() -> new ChunkSolver(4, 50).solve(new PushSwap(3, 2, 1)));
+	}
+
+	@Test
+	public void should_solve_small_inputs_with_any_parameters() {
+
+		for (int size = 0; size <= 12; size++) {
+			for (int chunks : new int[] {1, 3, 20}) {
+				for (int pivot : new int[] {0, 50, 100}) {
+					var game = PushSwap.normalized(shuffledNumbers(size, size));
+					var stats = new ChunkSolver(chunks, pivot).solve(game);
+					assertTrue(game.isSolved(), stats.toString());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void should_beat_radix_with_tuned_chunks() {
+
+		var chunkGame = PushSwap.normalized(shuffledNumbers(500, 7));
+		var radixGame = PushSwap.normalized(shuffledNumbers(500, 7));
+
+		var chunk = ChunkSolver.of(8, 50).solve(chunkGame);
+		var radix = new RadixSolver().solve(radixGame);
+
+		assertTrue(chunkGame.isSolved());
+		assertEquals(chunkGame.getMovements().size(), chunk.getMoves());
+		assertTrue(chunk.getMoves() < radix.getMoves(), chunk + " should beat " + radix);
+	}
+
+	@Test
+	public void should_stop_when_cancelled() {
+
+		var game = PushSwap.normalized(shuffledNumbers(100, 3));
+
+		assertThrows(CancellationException.class, 
+				() -> new ChunkSolver(4, 50).solve(game, moves -> moves > 50));
+	}
+}
@@ -0,0 +1,68 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class FenwickTreeTest {
+
+	@Test
+	public void should_count_prefix_sums() {
+
+		var tree = new FenwickTree(10);
+		tree.add(2, 1);
+		tree.add(5, 1);
+		tree.add(9, 1);
+
+		assertEquals(0, tree.prefixSum(1));
+		assertEquals(1, tree.prefixSum(2));
+		assertEquals(2, tree.prefixSum(8));
+		assertEquals(3, tree.prefixSum(9));
+		assertEquals(3, tree.total());
+	}
+
+	@Test
+	public void should_find_kth_counted_index() {
+
+		var tree = new FenwickTree(10);
+		tree.add(2, 1);
+		tree.add(5, 1);
+		tree.add(9, 1);
+
+		assertEquals(2, tree.findKth(1));
+		assertEquals(5, tree.findKth(2));
+		assertEquals(9, tree.findKth(3));
+	}
+
+	@Test
+	public void should_find_successor_wrapping_around() {
+
+		var tree = new FenwickTree(10);
+
+		assertEquals(-1, tree.successor(3));
+
+		tree.add(2, 1);
+		tree.add(5, 1);
+
+		assertEquals(2, tree.successor(0));
+		assertEquals(5, tree.successor(2));
+		assertEquals(5, tree.successor(4));
+		assertEquals(2, tree.successor(7));
+	}
+
+	@Test
+	public void should_find_predecessor_wrapping_around() {
+
+		var tree = new FenwickTree(10);
+
+		assertEquals(-1, tree.predecessor(3));
+
+		tree.add(2, 1);
+		tree.add(5, 1);
+
+		assertEquals(5, tree.predecessor(0));
+		assertEquals(5, tree.predecessor(2));
+		assertEquals(2, tree.predecessor(5));
+		assertEquals(5, tree.predecessor(9));
+	}
+}
@@ -0,0 +1,64 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static br.dev.gawbsouza.pushswap.solver.RadixSolverTest.shuffledNumbers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class GreedySolverTest {
+
+	private final Solver solver = new GreedySolver();
+
+	@Test
+	public void should_reject_game_not_normalized() {
+		assertThrows(IllegalArgumentException.class, 
+				() -> solver.solve(new PushSwap(3, 2, 1)));
+	}
+
+	@Test
+	public void should_solve_every_permutation_of_three() {
+
+		int[][] permutations = {
+			{1, 2, 3}, {1, 3, 2}, {2, 1, 3}, {2, 3, 1}, {3, 1, 2}, {3, 2, 1}
+		};
+
+		for (var numbers : permutations) {
+			var game = PushSwap.normalized(numbers);
+			var stats = solver.solve(game);
+			assertTrue(game.isSolved());
+			assertTrue(stats.getMoves() <= 2);
+		}
+	}
+
+	@Test
+	public void should_solve_small_inputs() {
+
+		for (int size = 0; size <= 12; size++) {
+			var game = PushSwap.normalized(shuffledNumbers(size, size));
+			solver.solve(game);
+			assertTrue(game.isSolved());
+		}
+	}
+
+	@Test
+	public void should_beat_radix_on_benchmark_sizes() {
+
+		for (int size : new int[] {100, 500}) {
+
+			var greedyGame = PushSwap.normalized(shuffledNumbers(size, 7));
+			var radixGame = PushSwap.normalized(shuffledNumbers(size, 7));
+
+			var greedy = solver.solve(greedyGame);
+			var radix = new RadixSolver().solve(radixGame);
+
+			assertTrue(greedyGame.isSolved());
+			assertEquals(greedyGame.getMovements().size(), greedy.getMoves());
+			assertTrue(greedy.getMoves() < radix.getMoves(), 
+					greedy + " should beat " + radix);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static br.dev.gawbsouza.pushswap.solver.RadixSolverTest.shuffledNumbers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class LisSolverTest {
+
+	private final Solver solver = new LisSolver();
+
+	/**
+	 * Sorted numbers rotated by an offset, with a few random swaps.
+	 */
+	private static int[] nearlySorted(int size, int offset, int swaps, long seed) {
+
+		var random = new Random(seed);
+		var numbers = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			numbers[i] = (i + offset) % size;
+		}
+
+		for (int i = 0; i < swaps; i++) {
+			int first = random.nextInt(size);
+			int second = random.nextInt(size);
+			int swap = numbers[first];
+			numbers[first] = numbers[second];
+			numbers[second] = swap;
+		}
+
+		return numbers;
+	}
+
+	@Test
+	public void should_reject_game_not_normalized() {
+		assertThrows(IllegalArgumentException.class, 
+				() -> solver.solve(new PushSwap(3, 2, 1)));
+	}
+
+	@Test
+	public void should_solve_small_and_shuffled_inputs() {
+
+		for (int size : new int[] {0, 1, 2, 3, 4, 5, 8, 12, 100, 500}) {
+			var game = PushSwap.normalized(shuffledNumbers(size, size));
+			var stats = solver.solve(game);
+
+			assertTrue(game.isSolved());
+			assertEquals(game.getMovements().size(), stats.getMoves());
+		}
+	}
+
+	@Test
+	public void should_only_rotate_cyclically_sorted_input() {
+
+		var game = PushSwap.normalized(nearlySorted(1000, 990, 0, 0));
+		var stats = solver.solve(game);
+
+		assertTrue(game.isSolved());
+		assertEquals(10, stats.getMoves());
+	}
+
+	@Test
+	public void should_scale_with_disorder_instead_of_size() {
+
+		var numbers = nearlySorted(100_000, 0, 0, 0);
+		for (int depth : new int[] {3, 17, 40, 41, 90}) {
+			int swap = numbers[depth];
+			numbers[depth] = numbers[depth + 2];
+			numbers[depth + 2] = swap;
+		}
+
+		var game = PushSwap.normalized(numbers);
+		var stats = solver.solve(game);
+
+		assertTrue(game.isSolved());
+		assertEquals(game.getMovements().size(), stats.getMoves());
+		assertTrue(stats.getMoves() < 300, stats.toString());
+	}
+
+	@Test
+	public void should_beat_greedy_on_nearly_sorted_input() {
+
+		var greedyGame = PushSwap.normalized(nearlySorted(2000, 700, 5, 3));
+		var greedy = new GreedySolver().solve(greedyGame);
+		var lisGame = PushSwap.normalized(nearlySorted(2000, 700, 5, 3));
+		var lis = solver.solve(lisGame);
+
+		assertTrue(lisGame.isSolved());
+		assertEquals(lisGame.getMovements().size(), lis.getMoves());
+		assertTrue(lis.getMoves() < greedy.getMoves(), lis + " should beat " + greedy);
+	}
+
+	@Test
+	public void should_stop_when_cancelled() {
+
+		var game = PushSwap.normalized(shuffledNumbers(100, 1));
+
+		assertThrows(CancellationException.class, 
+				() -> solver.solve(game, moves -> moves > 10));
+	}
+}
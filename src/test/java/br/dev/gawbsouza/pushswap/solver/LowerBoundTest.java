@@ -0,0 +1,119 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static br.dev.gawbsouza.pushswap.solver.RadixSolverTest.shuffledNumbers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.Movements;
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class LowerBoundTest {
+
+	private static boolean nextPermutation(int[] items) {
+
+		int i = items.length - 2;
+		while (i >= 0 && items[i] >= items[i + 1]) i--;
+		if (i < 0) return false;
+
+		int j = items.length - 1;
+		while (items[j] <= items[i]) j--;
+
+		int swap = items[i]; items[i] = items[j]; items[j] = swap;
+
+		for (int left = i + 1, right = items.length - 1; left < right; left++, right--) {
+			swap = items[left]; items[left] = items[right]; items[right] = swap;
+		}
+
+		return true;
+	}
+
+	@Test
+	public void should_be_zero_only_for_solved_games() {
+
+		assertEquals(0, LowerBound.of(new PushSwap()));
+		assertEquals(0, LowerBound.of(new PushSwap(1, 2, 3)));
+
+		var pushed = new PushSwap(1, 2, 3);
+		pushed.pb();
+		assertEquals(1, LowerBound.of(pushed));
+	}
+
+	@Test
+	public void should_count_rotation_of_cyclically_ordered_stack() {
+
+		assertEquals(2, LowerBound.of(new PushSwap(2, 3, 0, 1)));
+		assertEquals(1, LowerBound.of(new PushSwap(3, 0, 1, 2)));
+		assertEquals(3, LowerBound.of(new PushSwap(3, 4, 5, 0, 1, 2)));
+	}
+
+	@Test
+	public void should_count_items_out_of_cyclic_order() {
+
+		assertEquals(1, LowerBound.of(new PushSwap(1, 0, 2)));
+		assertEquals(2, LowerBound.of(new PushSwap(3, 2, 1, 0)));
+		assertEquals(3, LowerBound.of(new PushSwap(0, 5, 4, 3, 2, 1)));
+		assertEquals(1, LowerBound.of(new PushSwap(2, 2, 1, 1)));
+	}
+
+	@Test
+	public void should_never_exceed_shortest_solution_along_the_way() {
+
+		var table = OptimalTable.generate(6);
+
+		for (int size = 1; size <= 6; size++) {
+
+			var ranks = new int[size];
+			for (int i = 0; i < size; i++) ranks[i] = i;
+
+			do {
+				var game = PushSwap.normalized(ranks);
+				table.solve(game);
+				var solution = game.getMovements();
+
+				var replay = PushSwap.normalized(ranks);
+				for (int move = 0; move <= solution.size(); move++) {
+					int bound = LowerBound.of(replay);
+					assertTrue(bound <= solution.size() - move, 
+							"Bound " + bound + " above " + (solution.size() - move));
+					if (move < solution.size()) replay.execute(solution.get(move));
+				}
+			} while (nextPermutation(ranks));
+		}
+	}
+
+	@Test
+	public void should_report_optimality_gap_of_a_solution() {
+
+		var game = PushSwap.normalized(shuffledNumbers(200, 4));
+		var stats = LowerBound.measure(new GreedySolver(), game);
+
+		assertTrue(game.isSolved());
+		assertTrue(stats.getLowerBound() > 0);
+		assertTrue(stats.getLowerBound() <= stats.getMoves());
+		assertEquals(LowerBound.gap(stats.getMoves(), stats.getLowerBound()), 
+				stats.getOptimalityGap());
+		assertTrue(stats.toString().contains("lower bound " + stats.getLowerBound()));
+		assertTrue(Double.isNaN(new SolverStats("x", 1, 1).getOptimalityGap()));
+	}
+
+	@Test
+	public void should_compute_relative_gap() {
+
+		assertEquals(0.0, LowerBound.gap(0, 0));
+		assertEquals(0.0, LowerBound.gap(10, 10));
+		assertEquals(0.5, LowerBound.gap(10, 5));
+		assertEquals(1.0, LowerBound.gap(4, 0));
+	}
+
+	@Test
+	public void should_count_items_on_stack_b() {
+
+		var game = new PushSwap(0, 1, 2, 3);
+		game.execute(Movements.PB);
+		game.execute(Movements.PB);
+
+		assertEquals(2, LowerBound.of(game));
+	}
+}
@@ -0,0 +1,140 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class OptimalTableTest {
+
+	private static final int MAX_SIZE = 5;
+
+	private static OptimalTable table;
+
+	@BeforeAll
+	public static void generateTable() {
+		table = OptimalTable.generate(MAX_SIZE);
+	}
+
+	private static boolean nextPermutation(int[] items) {
+
+		int i = items.length - 2;
+		while (i >= 0 && items[i] >= items[i + 1]) i--;
+		if (i < 0) return false;
+
+		int j = items.length - 1;
+		while (items[j] <= items[i]) j--;
+
+		int swap = items[i]; items[i] = items[j]; items[j] = swap;
+
+		for (int left = i + 1, right = items.length - 1; left < right; left++, right--) {
+			swap = items[left]; items[left] = items[right]; items[right] = swap;
+		}
+
+		return true;
+	}
+
+	@Test
+	public void should_know_shortest_solutions_of_tiny_inputs() {
+
+		assertEquals(0, table.solutionLength());
+		assertEquals(0, table.solutionLength(0, 1, 2));
+		assertEquals(1, table.solutionLength(1, 0));
+		assertEquals(1, table.solutionLength(2, 0, 1));
+		assertEquals(1, table.solutionLength(1, 2, 0));
+		assertEquals(2, table.solutionLength(2, 1, 0));
+	}
+
+	@Test
+	public void should_solve_every_permutation_no_worse_than_greedy() {
+
+		for (int size = 1; size <= MAX_SIZE; size++) {
+
+			var ranks = new int[size];
+			for (int i = 0; i < size; i++) ranks[i] = i;
+
+			do {
+				var game = PushSwap.normalized(ranks);
+				var greedyGame = PushSwap.normalized(ranks);
+				var stats = new OptimalTableSolver(table).solve(game);
+
+				assertTrue(game.isSolved());
+				assertEquals(table.solutionLength(ranks), stats.getMoves());
+				assertTrue(stats.getMoves() <= new GreedySolver().solve(greedyGame).getMoves());
+			} while (nextPermutation(ranks));
+		}
+	}
+
+	@Test
+	public void should_reject_games_out_of_the_table() {
+
+		var tooLarge = PushSwap.normalized(6, 5, 4, 3, 2, 1);
+		var notNormalized = new PushSwap(2, 1);
+
+		assertFalse(table.contains(tooLarge));
+		assertFalse(table.contains(notNormalized));
+		assertThrows(IllegalArgumentException.class, () -> table.solve(tooLarge));
+	}
+
+	@Test
+	public void should_map_written_table(@TempDir Path directory) throws IOException {
+
+		var file = directory.resolve("optimal.table");
+		table.write(file);
+		var mapped = OptimalTable.map(file);
+
+		assertTrue(Files.size(file) > 0);
+		assertEquals(MAX_SIZE, mapped.getMaxSize());
+		assertEquals(table.solutionLength(4, 3, 2, 1, 0), mapped.solutionLength(4, 3, 2, 1, 0));
+
+		var game = PushSwap.normalized(40, 10, 30, 50, 20);
+		new OptimalTableSolver(mapped).solve(game);
+
+		assertTrue(game.isSolved());
+	}
+
+	@Test
+	public void should_map_bundled_table_with_the_generated_solutions() {
+
+		var bundled = OptimalTable.bundled();
+
+		assertEquals(OptimalTable.BUNDLED_MAX_SIZE, bundled.getMaxSize());
+		assertTrue(bundled == OptimalTable.bundled());
+
+		for (int size = 1; size <= MAX_SIZE; size++) {
+
+			var ranks = new int[size];
+			for (int i = 0; i < size; i++) ranks[i] = i;
+
+			do {
+				assertEquals(table.solutionLength(ranks), bundled.solutionLength(ranks));
+			} while (nextPermutation(ranks));
+		}
+	}
+
+	@Test
+	public void should_solve_small_inputs_optimally_through_bundled_table() {
+
+		var ranks = new int[] { 7, 2, 5, 0, 6, 1, 4, 3 };
+		int shortest = OptimalTable.bundled().solutionLength(ranks);
+
+		var greedyGame = PushSwap.normalized(ranks);
+		var beamGame = PushSwap.normalized(ranks);
+		var tableGame = PushSwap.normalized(ranks);
+
+		assertEquals(shortest, new GreedySolver().solve(greedyGame).getMoves());
+		assertEquals(shortest, new BeamSolver(4).solve(beamGame).getMoves());
+		assertEquals(shortest, new OptimalTableSolver().solve(tableGame).getMoves());
+		assertTrue(greedyGame.isSolved() && beamGame.isSolved() && tableGame.isSolved());
+	}
+}
@@ -0,0 +1,184 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static br.dev.gawbsouza.pushswap.solver.RadixSolverTest.shuffledNumbers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.core.Recording;
+
+public class PortfolioSolverTest {
+
+	/**
+	 * Strategy that never finishes on its own, it only stops when cancelled.
+	 * It keeps the number of movements it reached.
+	 */
+	private static final class Endless implements Solver {
+
+		private volatile int reached;
+
+		@Override
+		public SolverStats solve(PushSwap game) {
+			return solve(game, Cancellation.NEVER);
+		}
+
+		@Override
+		public SolverStats solve(PushSwap game, Cancellation cancellation) {
+			game.setRecording(Recording.COUNT);
+			for (int moves = 0; ; moves++) {
+				reached = moves;
+				if (cancellation.shouldStop(moves)) throw new CancellationException();
+				game.ra();
+			}
+		}
+	}
+
+	/**
+	 * Strategy that ignores the cancellation check and only stops once 
+	 * released.
+	 */
+	private static final class Stubborn implements Solver {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		@Override
+		public SolverStats solve(PushSwap game) {
+			while (!released.get()) {
+				Thread.onSpinWait();
+			}
+			throw new IllegalArgumentException("Released");
+		}
+	}
+
+	@Test
+	public void should_keep_shortest_solution() {
+
+		var numbers = shuffledNumbers(500, 3);
+		var expected = new GreedySolver().solve(PushSwap.normalized(numbers));
+
+		var game = PushSwap.normalized(numbers);
+		var portfolio = new PortfolioSolver(Duration.ofSeconds(10), 
+				new RadixSolver(), new GreedySolver());
+		var stats = portfolio.solve(game);
+
+		assertTrue(game.isSolved());
+		assertEquals("GreedySolver", stats.getSolverName());
+		assertEquals(expected.getMoves(), stats.getMoves());
+		assertEquals(expected.getMoves(), game.getMovements().size());
+	}
+
+	@Test
+	public void should_solve_game_that_only_counts_movements() {
+
+		var numbers = shuffledNumbers(300, 9);
+		var game = PushSwap.normalized(numbers);
+		game.setRecording(Recording.COUNT);
+		game.ra();
+
+		var stats = new PortfolioSolver(Duration.ofSeconds(10), 
+				new RadixSolver(), new GreedySolver()).solve(game);
+
+		assertTrue(game.isSolved());
+		assertEquals(0, game.getMovements().size());
+		assertEquals(stats.getMoves() + 1, game.getMovementCount());
+	}
+
+	@Test
+	public void should_cancel_solvers_that_can_no_longer_win() {
+
+		var game = PushSwap.normalized(shuffledNumbers(100, 5));
+		var endless = new Endless();
+		var portfolio = new PortfolioSolver(Duration.ofMinutes(10), endless, new RadixSolver());
+
+		var stats = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> portfolio.solve(game));
+
+		assertTrue(game.isSolved());
+		assertEquals("RadixSolver", stats.getSolverName());
+		assertTrue(endless.reached < 1_000_000, "Stopped at " + endless.reached);
+	}
+
+	@Test
+	public void should_run_every_strategy_whatever_the_number_of_cores() {
+
+		var game = PushSwap.normalized(shuffledNumbers(100, 5));
+		var portfolio = new PortfolioSolver(Duration.ofMinutes(10), 
+				new Endless(), new Endless(), new Endless(), new RadixSolver());
+
+		var stats = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> portfolio.solve(game));
+
+		assertTrue(game.isSolved());
+		assertEquals("RadixSolver", stats.getSolverName());
+	}
+
+	@Test
+	public void should_not_wait_for_solvers_ignoring_cancellation_after_budget() {
+
+		var game = PushSwap.normalized(shuffledNumbers(100, 5));
+		var stubborn = new Stubborn();
+		var portfolio = new PortfolioSolver(Duration.ofMillis(200), stubborn, new RadixSolver());
+
+		try {
+			var stats = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> portfolio.solve(game));
+
+			assertTrue(game.isSolved());
+			assertEquals("RadixSolver", stats.getSolverName());
+		} finally {
+			stubborn.released.set(true);
+		}
+	}
+
+	@Test
+	public void should_return_a_solution_even_with_budget_over() {
+
+		var game = PushSwap.normalized(shuffledNumbers(300, 9));
+		var portfolio = new PortfolioSolver(Duration.ZERO, 
+				new GreedySolver(), new RadixSolver());
+		var stats = portfolio.solve(game);
+
+		assertTrue(game.isSolved());
+		assertEquals(game.getMovements().size(), stats.getMoves());
+	}
+
+	@Test
+	public void should_skip_solvers_that_reject_the_game() {
+
+		var game = PushSwap.normalized(shuffledNumbers(12, 1));
+		var portfolio = new PortfolioSolver(Duration.ofSeconds(10), 
+				new OptimalTableSolver(OptimalTable.generate(3)), new RadixSolver());
+
+		portfolio.solve(game);
+
+		assertTrue(game.isSolved());
+	}
+
+	@Test
+	public void should_reject_game_rejected_by_every_solver() {
+
+		var portfolio = new PortfolioSolver(Duration.ofSeconds(10), 
+				new RadixSolver(), new GreedySolver());
+
+		assertThrows(IllegalArgumentException.class, 
+				() -> portfolio.solve(new PushSwap(3, 2, 1)));
+	}
+
+	@Test
+	public void should_replay_solution_after_previous_movements() {
+
+		var game = PushSwap.normalized(shuffledNumbers(50, 2));
+		game.ra();
+		game.rra();
+
+		var stats = new PortfolioSolver(Duration.ofSeconds(10), new GreedySolver()).solve(game);
+
+		assertTrue(game.isSolved());
+		assertEquals(stats.getMoves() + 2, game.getMovements().size());
+	}
+}
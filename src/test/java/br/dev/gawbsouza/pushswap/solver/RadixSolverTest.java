@@ -0,0 +1,73 @@
+package br.dev.gawbsouza.pushswap.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+
+public class RadixSolverTest {
+
+	private final Solver solver = new RadixSolver();
+
+	static int[] shuffledNumbers(int size, long seed) {
+
+		var random = new Random(seed);
+		var numbers = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			numbers[i] = i * 3 - size;
+		}
+
+		for (int i = size - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = numbers[i];
+			numbers[i] = numbers[j];
+			numbers[j] = swap;
+		}
+
+		return numbers;
+	}
+
+	@Test
+	public void should_reject_game_not_normalized() {
+		assertThrows(IllegalArgumentException.class, 
+				() -> solver.solve(new PushSwap(3, 2, 1)));
+	}
+
+	@Test
+	public void should_not_move_when_already_solved() {
+
+		var game = PushSwap.normalized(1, 2, 3);
+		var stats = solver.solve(game);
+
+		assertEquals(0, stats.getMoves());
+		assertTrue(game.isSolved());
+	}
+
+	@Test
+	public void should_solve_small_inputs() {
+
+		for (int size = 0; size <= 8; size++) {
+			var game = PushSwap.normalized(shuffledNumbers(size, size));
+			solver.solve(game);
+			assertTrue(game.isSolved());
+		}
+	}
+
+	@Test
+	public void should_solve_within_radix_move_bound() {
+
+		int size = 500;
+		var game = PushSwap.normalized(shuffledNumbers(size, 42));
+		var stats = solver.solve(game);
+
+		assertTrue(game.isSolved());
+		assertEquals(game.getMovements().size(), stats.getMoves());
+		assertTrue(stats.getMoves() <= 2 * size * 9);
+	}
+}
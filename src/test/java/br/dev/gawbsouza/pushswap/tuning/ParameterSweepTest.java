@@ -0,0 +1,90 @@
+package br.dev.gawbsouza.pushswap.tuning;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.gawbsouza.pushswap.core.PushSwap;
+import br.dev.gawbsouza.pushswap.solver.ChunkSolver;
+import br.dev.gawbsouza.pushswap.tuning.ParameterSweep.Strategy;
+
+public class ParameterSweepTest {
+
+	private final ParameterSweep sweep = new ParameterSweep(ChunkSolver::of, 
+			new int[] {1, 4, 8}, new int[] {0, 50});
+
+	private static double meanMoves(int[] parameters, int size, int corpusSize, long seed) {
+
+		long total = 0;
+
+		for (int i = 0; i < corpusSize; i++) {
+			var game = PushSwap.normalized(ParameterSweep.shuffled(size, seed + i));
+			total += ChunkSolver.of(parameters).solve(game).getMoves();
+		}
+
+		return (double) total / corpusSize;
+	}
+
+	@Test
+	public void should_combine_every_parameter_value() {
+		assertEquals(6, sweep.getCandidateCount());
+	}
+
+	@Test
+	public void should_find_best_candidate_of_the_grid() {
+
+		var entry = sweep.sweep(100, 4, 1, Strategy.GRID);
+
+		for (int chunks : new int[] {1, 4, 8}) {
+			for (int pivot : new int[] {0, 50}) {
+				assertTrue(entry.getMeanMoves() <= meanMoves(new int[] {chunks, pivot}, 100, 4, 1));
+			}
+		}
+
+		assertEquals(meanMoves(entry.getParameters(), 100, 4, 1), entry.getMeanMoves());
+	}
+
+	@Test
+	public void should_discard_candidates_that_throw() {
+
+		var throwing = new ParameterSweep(parameters -> {
+			if (parameters[0] != 4) return ChunkSolver.of(parameters);
+			return game -> {
+				throw new IllegalStateException("broken");
+			};
+		}, new int[] {1, 4, 8}, new int[] {0, 50});
+
+		var entry = throwing.sweep(100, 4, 1, Strategy.GRID);
+
+		assertTrue(entry.getParameters()[0] != 4);
+		assertEquals(meanMoves(entry.getParameters(), 100, 4, 1), entry.getMeanMoves());
+	}
+
+	@Test
+	public void should_be_reproducible() {
+
+		var first = sweep.sweep(60, 8, 5, Strategy.SUCCESSIVE_HALVING);
+		var second = sweep.sweep(60, 8, 5, Strategy.SUCCESSIVE_HALVING);
+
+		assertArrayEquals(first.getParameters(), second.getParameters());
+		assertEquals(first.getMeanMoves(), second.getMeanMoves());
+	}
+
+	@Test
+	public void should_tune_one_bucket_per_size() {
+
+		var profile = sweep.tune(new int[] {200, 20}, 2, 3, Strategy.SUCCESSIVE_HALVING);
+
+		assertEquals(2, profile.getEntries().size());
+		assertEquals(20, profile.getEntries().get(0).getSize());
+		assertEquals(200, profile.getEntries().get(1).getSize());
+	}
+
+	@Test
+	public void should_reject_empty_corpus() {
+		assertThrows(IllegalArgumentException.class, () -> sweep.sweep(10, 0, 1, Strategy.GRID));
+	}
+}
@@ -0,0 +1,58 @@
+package br.dev.gawbsouza.pushswap.tuning;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TuningProfileTest {
+
+	private final TuningProfile profile = new TuningProfile(List.of(
+			new TuningProfile.Entry(500, new int[] {8, 50}, 5388.81),
+			new TuningProfile.Entry(100, new int[] {4, 50}, 622.38)));
+
+	@Test
+	public void should_pick_parameters_by_size_bucket() {
+		assertArrayEquals(new int[] {4, 50}, profile.parametersFor(3));
+		assertArrayEquals(new int[] {4, 50}, profile.parametersFor(100));
+		assertArrayEquals(new int[] {8, 50}, profile.parametersFor(101));
+		assertArrayEquals(new int[] {8, 50}, profile.parametersFor(10_000));
+	}
+
+	@Test
+	public void should_reject_duplicated_buckets() {
+		assertThrows(IllegalArgumentException.class, () -> new TuningProfile(List.of(
+				new TuningProfile.Entry(100, new int[] {1}, 1), 
+				new TuningProfile.Entry(100, new int[] {2}, 1))));
+	}
+
+	@Test
+	public void should_read_written_profile(@TempDir Path directory) throws IOException {
+
+		var file = directory.resolve("chunk.profile");
+		profile.write(file);
+
+		var read = TuningProfile.read(file);
+
+		assertEquals(profile.toString(), read.toString());
+		assertEquals(2, read.getEntries().size());
+		assertEquals(622.38, read.getEntries().get(0).getMeanMoves());
+	}
+
+	@Test
+	public void should_reject_invalid_entry(@TempDir Path directory) throws IOException {
+
+		var file = directory.resolve("invalid.profile");
+		Files.write(file, "100 four 50 622.38\n".getBytes(StandardCharsets.UTF_8));
+
+		assertThrows(IllegalArgumentException.class, () -> TuningProfile.read(file));
+	}
+}